@@ -0,0 +1,70 @@
+/*
+ * Copyright 2019-2020 Egor Nepomnyaschih and contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.squigglesql.squigglesql.benchmarks;
+
+import com.github.squigglesql.squigglesql.Table;
+import com.github.squigglesql.squigglesql.TableReference;
+import com.github.squigglesql.squigglesql.alias.AliasGenerator;
+import com.github.squigglesql.squigglesql.alias.Alphabet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures alias generation for many table references. Table names share prefixes, so most references don't get
+ * their preferred aliases and fall back to alphabetic ones.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class AliasGeneratorBenchmark {
+
+    private static final Alphabet ALPHABET = new Alphabet('t', 7);
+
+    @Param({"4", "32", "256"})
+    public int references;
+
+    private List<TableReference> tableReferences;
+
+    @Setup
+    public void setup() {
+        tableReferences = new ArrayList<>();
+        for (int i = 0; i < references; ++i) {
+            tableReferences.add(new Table("table_" + i).refer());
+        }
+    }
+
+    @Benchmark
+    public Map<TableReference, String> generateAliases() {
+        return AliasGenerator.generateAliases(tableReferences, ALPHABET);
+    }
+}
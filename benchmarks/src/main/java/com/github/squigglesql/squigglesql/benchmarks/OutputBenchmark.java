@@ -0,0 +1,72 @@
+/*
+ * Copyright 2019-2020 Egor Nepomnyaschih and contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.squigglesql.squigglesql.benchmarks;
+
+import com.github.squigglesql.squigglesql.Output;
+import com.github.squigglesql.squigglesql.syntax.SqlSyntax;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of writing SQL code to {@link Output}. Run with "-prof gc" to see the allocation rate.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class OutputBenchmark {
+
+    @Param({"false", "true"})
+    public boolean pooled;
+
+    @Benchmark
+    public String writeOutput() {
+        Output output = pooled
+                ? Output.borrow(SqlSyntax.POSTGRE_SQL_SYNTAX, Output.DEFAULT_INDENT)
+                : new Output(SqlSyntax.POSTGRE_SQL_SYNTAX);
+        try {
+            output.write("SELECT");
+            output.indent();
+            for (int i = 0; i < 10; ++i) {
+                output.writeln();
+                output.write("\"e\".\"column\"");
+                output.write(',');
+            }
+            output.unindent();
+            output.writeln();
+            output.write("FROM");
+            output.indent();
+            output.writeln();
+            output.write("\"employee\" \"e\"");
+            output.unindent();
+            return output.toString();
+        } finally {
+            output.release();
+        }
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2019-2020 Egor Nepomnyaschih and contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.squigglesql.squigglesql.benchmarks;
+
+import com.github.squigglesql.squigglesql.mock.MockStatement;
+import com.github.squigglesql.squigglesql.mock.MockStatementCompiler;
+import com.github.squigglesql.squigglesql.parameter.Parameter;
+import com.github.squigglesql.squigglesql.statement.StatementBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures binding of parameter values to a statement through {@link MockStatementCompiler}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ParameterBindingBenchmark {
+
+    @Param({"1", "16", "256"})
+    public int size;
+
+    private final MockStatementCompiler compiler = new MockStatementCompiler();
+    private Parameter[] parameters;
+
+    @Setup
+    public void setup() {
+        Parameter[] samples = {
+                Parameter.of(42),
+                Parameter.of(42L),
+                Parameter.of("John Smith"),
+                Parameter.of(new BigDecimal("12.50")),
+                Parameter.of(true),
+                Parameter.of(LocalDate.of(2020, 1, 1)),
+                Parameter.of(Instant.ofEpochSecond(1577836800L)),
+                Parameter.of((Integer) null)
+        };
+        parameters = new Parameter[size];
+        for (int i = 0; i < size; ++i) {
+            parameters[i] = samples[i % samples.length];
+        }
+    }
+
+    @Benchmark
+    public MockStatement addValues() throws SQLException {
+        StatementBuilder<MockStatement> builder = compiler.createStatementBuilder("");
+        for (Parameter parameter : parameters) {
+            parameter.addValue(builder);
+        }
+        return builder.buildStatement();
+    }
+}
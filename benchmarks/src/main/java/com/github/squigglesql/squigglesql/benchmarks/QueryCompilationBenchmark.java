@@ -0,0 +1,142 @@
+/*
+ * Copyright 2019-2020 Egor Nepomnyaschih and contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.squigglesql.squigglesql.benchmarks;
+
+import com.github.squigglesql.squigglesql.Matchable;
+import com.github.squigglesql.squigglesql.Table;
+import com.github.squigglesql.squigglesql.TableColumn;
+import com.github.squigglesql.squigglesql.TableReference;
+import com.github.squigglesql.squigglesql.criteria.Criteria;
+import com.github.squigglesql.squigglesql.parameter.Parameter;
+import com.github.squigglesql.squigglesql.query.DeleteQuery;
+import com.github.squigglesql.squigglesql.query.InsertQuery;
+import com.github.squigglesql.squigglesql.query.SelectQuery;
+import com.github.squigglesql.squigglesql.query.UpdateQuery;
+import com.github.squigglesql.squigglesql.syntax.SqlSyntax;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static com.github.squigglesql.squigglesql.criteria.Criteria.equal;
+import static com.github.squigglesql.squigglesql.criteria.Criteria.greater;
+import static com.github.squigglesql.squigglesql.criteria.Criteria.in;
+
+/**
+ * Measures compilation of SELECT, INSERT, UPDATE and DELETE queries of growing size. The size is the number of joined
+ * tables, criterias, IN options and assigned columns.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class QueryCompilationBenchmark {
+
+    @Param({"1", "4", "16"})
+    public int size;
+
+    private SelectQuery select;
+    private InsertQuery insert;
+    private UpdateQuery update;
+    private DeleteQuery delete;
+
+    @Setup
+    public void setup() {
+        Table employee = new Table("employee");
+        TableColumn employeeId = employee.get("id");
+        TableColumn employeeAge = employee.get("age");
+        TableReference e = employee.refer();
+
+        select = new SelectQuery();
+        select.addToSelection(e.get(employeeId));
+        for (int i = 0; i < size; ++i) {
+            Table department = new Table("department_" + i);
+            TableColumn departmentId = department.get("id");
+            TableColumn departmentName = department.get("name");
+            TableReference d = department.refer();
+
+            select.addToSelection(d.get(departmentName));
+            select.addCriteria(equal(e.get(employee.get("department_" + i + "_id")), d.get(departmentId)));
+            select.addOrder(d.get(departmentName), true);
+        }
+        select.addCriteria(greater(e.get(employeeAge), Parameter.of(18)));
+        select.addCriteria(in(e.get(employeeId), createOptions()));
+
+        insert = new InsertQuery(employee);
+        for (int i = 0; i < size; ++i) {
+            insert.addValue(employee.get("column_" + i), Parameter.of(i));
+        }
+
+        update = new UpdateQuery(e);
+        for (int i = 0; i < size; ++i) {
+            update.addValue(employee.get("column_" + i), Parameter.of(i));
+        }
+        update.addCriteria(createCriteria(e, employeeAge));
+
+        delete = new DeleteQuery(e);
+        delete.addCriteria(createCriteria(e, employeeAge));
+        delete.addCriteria(in(e.get(employeeId), createOptions()));
+    }
+
+    @Benchmark
+    public String compileSelect() {
+        return select.toString(SqlSyntax.POSTGRE_SQL_SYNTAX);
+    }
+
+    @Benchmark
+    public String compileInsert() {
+        return insert.toString(SqlSyntax.POSTGRE_SQL_SYNTAX);
+    }
+
+    @Benchmark
+    public String compileUpdate() {
+        return update.toString(SqlSyntax.POSTGRE_SQL_SYNTAX);
+    }
+
+    @Benchmark
+    public String compileDelete() {
+        return delete.toString(SqlSyntax.POSTGRE_SQL_SYNTAX);
+    }
+
+    private List<Matchable> createOptions() {
+        List<Matchable> options = new ArrayList<>();
+        for (int i = 0; i < size * 4; ++i) {
+            options.add(Parameter.of(i));
+        }
+        return options;
+    }
+
+    private Criteria createCriteria(TableReference e, TableColumn employeeAge) {
+        Criteria criteria = greater(e.get(employeeAge), Parameter.of(0));
+        for (int i = 1; i < size; ++i) {
+            criteria = Criteria.and(criteria, greater(e.get(employeeAge), Parameter.of(i)));
+        }
+        return criteria;
+    }
+}
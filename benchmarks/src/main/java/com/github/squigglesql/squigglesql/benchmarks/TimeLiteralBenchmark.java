@@ -0,0 +1,105 @@
+/*
+ * Copyright 2019-2020 Egor Nepomnyaschih and contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.squigglesql.squigglesql.benchmarks;
+
+import com.github.squigglesql.squigglesql.Output;
+import com.github.squigglesql.squigglesql.QueryCompiler;
+import com.github.squigglesql.squigglesql.SquiggleConstants;
+import com.github.squigglesql.squigglesql.literal.Literal;
+import com.github.squigglesql.squigglesql.syntax.SqlSyntax;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares date/time literal compilation with plain {@link java.time.format.DateTimeFormatter} formatting of the same
+ * values. Run with "-prof gc" to see the allocation rate.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TimeLiteralBenchmark {
+
+    private static final int LITERAL_COUNT = 100;
+
+    private final LocalDateTime[] timestamps = new LocalDateTime[LITERAL_COUNT];
+    private final OffsetDateTime[] offsetTimestamps = new OffsetDateTime[LITERAL_COUNT];
+    private final Literal[] timestampLiterals = new Literal[LITERAL_COUNT];
+    private final Literal[] offsetTimestampLiterals = new Literal[LITERAL_COUNT];
+
+    public TimeLiteralBenchmark() {
+        LocalDateTime base = LocalDateTime.of(2020, 1, 2, 3, 4, 5, 6000000);
+        for (int i = 0; i < LITERAL_COUNT; ++i) {
+            timestamps[i] = base.plusMinutes(i * 12345L);
+            offsetTimestamps[i] = OffsetDateTime.of(timestamps[i], ZoneOffset.ofHours(i % 24 - 12));
+            timestampLiterals[i] = Literal.of(timestamps[i]);
+            offsetTimestampLiterals[i] = Literal.of(offsetTimestamps[i]);
+        }
+    }
+
+    @Benchmark
+    public String formatTimestamps() {
+        StringBuilder result = new StringBuilder();
+        for (LocalDateTime timestamp : timestamps) {
+            result.append('\'').append(SquiggleConstants.TIMESTAMP_FORMATTER.format(timestamp)).append('\'');
+        }
+        return result.toString();
+    }
+
+    @Benchmark
+    public String compileTimestamps() {
+        return compile(timestampLiterals);
+    }
+
+    @Benchmark
+    public String formatOffsetTimestamps() {
+        StringBuilder result = new StringBuilder();
+        for (OffsetDateTime timestamp : offsetTimestamps) {
+            result.append('\'')
+                    .append(SquiggleConstants.TIMESTAMP_WITH_TIME_ZONE_FORMATTER.format(timestamp))
+                    .append('\'');
+        }
+        return result.toString();
+    }
+
+    @Benchmark
+    public String compileOffsetTimestamps() {
+        return compile(offsetTimestampLiterals);
+    }
+
+    private static String compile(Literal[] literals) {
+        Output output = new Output(SqlSyntax.POSTGRE_SQL_SYNTAX);
+        QueryCompiler compiler = new QueryCompiler(output);
+        for (Literal literal : literals) {
+            literal.compile(compiler);
+        }
+        return output.toString();
+    }
+}
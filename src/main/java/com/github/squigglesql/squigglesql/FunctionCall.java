@@ -26,7 +26,7 @@ import java.util.Set;
  */
 public class FunctionCall implements Selectable {
 
-    private final String function;
+    private final QuotedName function;
     private final Collection<Matchable> arguments;
 
     /**
@@ -36,7 +36,10 @@ public class FunctionCall implements Selectable {
      * @param arguments arguments of the function.
      */
     public FunctionCall(String function, Collection<Matchable> arguments) {
-        this.function = function;
+        if (function == null) {
+            throw new IllegalArgumentException("Function name can not be null.");
+        }
+        this.function = QuotedName.of(function);
         this.arguments = arguments;
     }
 
@@ -52,7 +55,7 @@ public class FunctionCall implements Selectable {
 
     @Override
     public void compile(QueryCompiler compiler) {
-        compiler.quote(function, compiler.getSyntax().getFunctionQuote());
+        function.write(compiler, compiler.getSyntax().getFunctionQuote());
         if (arguments.isEmpty()) {
             compiler.write("()");
             return;
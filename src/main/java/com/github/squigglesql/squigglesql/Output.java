@@ -21,25 +21,37 @@ import com.github.squigglesql.squigglesql.syntax.AbstractSqlSyntax;
 
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 /**
  * Object that accumulates part of SQL query code and compiles them as a single string/statement.
  * The whole complex query is being built with a single output instance, while multiple {@link QueryCompiler}
  * instances can be used, one for each nested query.
+ * <p>
+ * The output object is {@link Appendable}, so formatters like {@link java.time.format.DateTimeFormatter#formatTo} may
+ * write to it directly.
  */
-public class Output {
+public class Output implements Appendable {
 
     /**
      * Default indentation (4 spaces).
      */
     public static final String DEFAULT_INDENT = "    ";
 
+    private static final String[] DEFAULT_INDENTS = createIndents(DEFAULT_INDENT, 8);
+
+    private static final int MAX_POOLED_CAPACITY = 16384;
+    private static final ThreadLocal<StringBuilder> BUFFER_POOL = new ThreadLocal<>();
+
     private final AbstractSqlSyntax syntax;
     private final String indent;
+    private final boolean compact;
 
-    private final StringBuffer result = new StringBuffer();
-    private final StringBuffer currentIndent = new StringBuffer();
+    private final StringBuilder result;
+    private boolean pooled;
+    private String[] indents;
+    private int indentLevel;
     private boolean newLineComing;
 
     private final List<Parameter> parameters = new ArrayList<>();
@@ -60,8 +72,81 @@ public class Output {
      * @param indent indentation string (e.g. tabulation or 4 spaces).
      */
     public Output(AbstractSqlSyntax syntax, String indent) {
+        this(syntax, indent, false);
+    }
+
+    /**
+     * Creates an output object for a specific SQL syntax.
+     *
+     * @param syntax  SQL syntax to use.
+     * @param indent  indentation string (e.g. tabulation or 4 spaces).
+     * @param compact write the whole query in a single line with minimal whitespace, ignoring the indentation.
+     * @since 4.3.0
+     */
+    public Output(AbstractSqlSyntax syntax, String indent, boolean compact) {
+        this(syntax, indent, compact, new StringBuilder(), false);
+    }
+
+    private Output(AbstractSqlSyntax syntax, String indent, boolean compact, StringBuilder result, boolean pooled) {
         this.syntax = syntax;
         this.indent = indent;
+        this.compact = compact;
+        this.result = result;
+        this.pooled = pooled;
+        this.indents = DEFAULT_INDENT.equals(indent) ? DEFAULT_INDENTS : new String[]{""};
+    }
+
+    /**
+     * Creates an output object that reuses a buffer of a previous output released in the same thread. This way,
+     * compilation of a query doesn't need to allocate and grow a new buffer every time. Call {@link Output#release()}
+     * method as soon as you obtain the compiled SQL query.
+     *
+     * @param syntax SQL syntax to use.
+     * @param indent indentation string (e.g. tabulation or 4 spaces).
+     * @return output object.
+     * @since 4.3.0
+     */
+    public static Output borrow(AbstractSqlSyntax syntax, String indent) {
+        return borrow(syntax, indent, false);
+    }
+
+    /**
+     * Creates an output object that reuses a buffer of a previous output released in the same thread. This way,
+     * compilation of a query doesn't need to allocate and grow a new buffer every time. Call {@link Output#release()}
+     * method as soon as you obtain the compiled SQL query.
+     *
+     * @param syntax  SQL syntax to use.
+     * @param indent  indentation string (e.g. tabulation or 4 spaces).
+     * @param compact write the whole query in a single line with minimal whitespace, ignoring the indentation.
+     * @return output object.
+     * @since 4.3.0
+     */
+    public static Output borrow(AbstractSqlSyntax syntax, String indent, boolean compact) {
+        StringBuilder result = BUFFER_POOL.get();
+        if (result == null) {
+            return new Output(syntax, indent, compact, new StringBuilder(), true);
+        }
+        BUFFER_POOL.remove();
+        return new Output(syntax, indent, compact, result, true);
+    }
+
+    /**
+     * Returns the buffer of an output object created with {@link Output#borrow} method to the pool of the current
+     * thread, so that the next output object could reuse it. Does nothing for output objects created with
+     * a constructor. Once the output object is released, you must not write to it or read the SQL query from it.
+     * The parameters remain available.
+     *
+     * @since 4.3.0
+     */
+    public void release() {
+        if (!pooled) {
+            return;
+        }
+        pooled = false;
+        if (result.capacity() <= MAX_POOLED_CAPACITY) {
+            result.setLength(0);
+            BUFFER_POOL.set(result);
+        }
     }
 
     /**
@@ -71,13 +156,21 @@ public class Output {
         return syntax;
     }
 
+    /**
+     * @return true if the output writes the whole query in a single line.
+     * @since 4.3.0
+     */
+    public boolean isCompact() {
+        return compact;
+    }
+
     /**
      * Writes a single ASCII character to the output.
      *
      * @param c character to write.
      */
     public void write(char c) {
-        writeNewLineIfNeeded();
+        writeNewLineIfNeeded(c);
         result.append(c);
     }
 
@@ -87,12 +180,74 @@ public class Output {
      * @param s string to write.
      */
     public void write(String s) {
-        writeNewLineIfNeeded();
+        writeNewLineIfNeeded(s.isEmpty() ? 0 : s.charAt(0));
         result.append(s);
     }
 
     /**
-     * Inserts a line break before the next statement.
+     * Writes a string to the output, replacing each quote character with two consequent quote characters. This is how
+     * string literals get escaped in SQL. No intermediate strings get created.
+     *
+     * @param s     string to write.
+     * @param quote quote character to escape.
+     * @since 4.3.0
+     */
+    public void writeEscaped(CharSequence s, char quote) {
+        int length = s.length();
+        writeNewLineIfNeeded(length == 0 ? 0 : s.charAt(0));
+        int start = 0;
+        for (int i = 0; i < length; ++i) {
+            if (s.charAt(i) == quote) {
+                result.append(s, start, i + 1).append(quote);
+                start = i + 1;
+            }
+        }
+        result.append(s, start, length);
+    }
+
+    /**
+     * Writes a character sequence to the output. Same as {@link Output#write(String)}.
+     *
+     * @param s character sequence to write.
+     * @return this output object.
+     * @since 4.3.0
+     */
+    @Override
+    public Output append(CharSequence s) {
+        return append(s, 0, s.length());
+    }
+
+    /**
+     * Writes a part of a character sequence to the output. Same as {@link Output#write(String)}.
+     *
+     * @param s     character sequence to write.
+     * @param start index of the first character to write.
+     * @param end   index after the last character to write.
+     * @return this output object.
+     * @since 4.3.0
+     */
+    @Override
+    public Output append(CharSequence s, int start, int end) {
+        writeNewLineIfNeeded(start == end ? 0 : s.charAt(start));
+        result.append(s, start, end);
+        return this;
+    }
+
+    /**
+     * Writes a single character to the output. Same as {@link Output#write(char)}.
+     *
+     * @param c character to write.
+     * @return this output object.
+     * @since 4.3.0
+     */
+    @Override
+    public Output append(char c) {
+        write(c);
+        return this;
+    }
+
+    /**
+     * Inserts a line break before the next statement. In compact mode, inserts a space instead, unless it is redundant.
      */
     public void writeln() {
         newLineComing = true;
@@ -122,14 +277,17 @@ public class Output {
      * Adds one more indentation level.
      */
     public void indent() {
-        currentIndent.append(indent);
+        ++indentLevel;
     }
 
     /**
      * Removes one indentation level.
      */
     public void unindent() {
-        currentIndent.setLength(currentIndent.length() - indent.length());
+        if (indentLevel == 0) {
+            throw new IllegalStateException("Can not remove an indentation level, as there are none.");
+        }
+        --indentLevel;
     }
 
     /**
@@ -151,6 +309,14 @@ public class Output {
         return result.toString();
     }
 
+    /**
+     * @return parameters pushed to the output, in the order of their appearance in the SQL query.
+     * @since 4.3.0
+     */
+    public List<Parameter> getParameters() {
+        return Collections.unmodifiableList(parameters);
+    }
+
     /**
      * Dumps parameter values to a JDBC statement builder.
      *
@@ -163,10 +329,42 @@ public class Output {
         }
     }
 
-    private void writeNewLineIfNeeded() {
-        if (newLineComing) {
-            result.append('\n').append(currentIndent.toString());
+    private void writeNewLineIfNeeded(char next) {
+        if (!newLineComing) {
+            return;
+        }
+        if (!compact) {
+            result.append('\n').append(getCurrentIndent());
             newLineComing = false;
+            return;
+        }
+        if (next == 0) {
+            return;
+        }
+        newLineComing = false;
+        int length = result.length();
+        if (length == 0 || next == ' ' || next == ')') {
+            return;
+        }
+        char last = result.charAt(length - 1);
+        if (last != ' ' && last != '(') {
+            result.append(' ');
+        }
+    }
+
+    private String getCurrentIndent() {
+        if (indentLevel >= indents.length) {
+            indents = createIndents(indent, indentLevel * 2);
+        }
+        return indents[indentLevel];
+    }
+
+    private static String[] createIndents(String indent, int count) {
+        String[] indents = new String[count];
+        indents[0] = "";
+        for (int i = 1; i < count; ++i) {
+            indents[i] = indents[i - 1] + indent;
         }
+        return indents;
     }
 }
@@ -15,6 +15,7 @@
  */
 package com.github.squigglesql.squigglesql;
 
+import com.github.squigglesql.squigglesql.alias.AliasMap;
 import com.github.squigglesql.squigglesql.exception.QueryCompilationException;
 import com.github.squigglesql.squigglesql.parameter.Parameter;
 import com.github.squigglesql.squigglesql.query.ResultColumn;
@@ -29,8 +30,8 @@ import java.util.Map;
 public class QueryCompiler {
 
     private final Output output;
-    private final Map<TableReference, String> tableReferenceAliases;
-    private final Map<ResultColumn, String> resultColumnAliases;
+    private final AliasMap<TableReference> tableReferenceAliases;
+    private final AliasMap<ResultColumn> resultColumnAliases;
 
     /**
      * Creates a query compiler. This constructor should be used
@@ -39,7 +40,7 @@ public class QueryCompiler {
      * @param output output object to compile the query to.
      */
     public QueryCompiler(Output output) {
-        this(output, null);
+        this(output, (Map<TableReference, String>) null, null);
     }
 
     /**
@@ -64,10 +65,32 @@ public class QueryCompiler {
     public QueryCompiler(Output output, Map<TableReference, String> tableReferenceAliases,
                          Map<ResultColumn, String> resultColumnAliases) {
         this.output = output;
+        this.tableReferenceAliases = tableReferenceAliases != null ? new AliasMap<>(tableReferenceAliases) : null;
+        this.resultColumnAliases = resultColumnAliases != null ? new AliasMap<>(resultColumnAliases) : null;
+    }
+
+    private QueryCompiler(Output output, AliasMap<TableReference> tableReferenceAliases,
+                          AliasMap<ResultColumn> resultColumnAliases) {
+        this.output = output;
         this.tableReferenceAliases = tableReferenceAliases;
         this.resultColumnAliases = resultColumnAliases;
     }
 
+    /**
+     * Creates a query compiler with precomputed alias maps. Unlike the constructors accepting hash maps, this method
+     * allows the queries to reuse the alias maps between compilations.
+     *
+     * @param output                output object to compile the query to.
+     * @param tableReferenceAliases table reference aliases to use.
+     * @param resultColumnAliases   result column aliases to use, or null for queries without result columns.
+     * @return query compiler.
+     * @since 4.3.0
+     */
+    public static QueryCompiler withAliases(Output output, AliasMap<TableReference> tableReferenceAliases,
+                                            AliasMap<ResultColumn> resultColumnAliases) {
+        return new QueryCompiler(output, tableReferenceAliases, resultColumnAliases);
+    }
+
     /**
      * @return output object the compiler writes to.
      */
@@ -98,6 +121,19 @@ public class QueryCompiler {
         return resultColumnAliases.get(resultColumn);
     }
 
+    /**
+     * Writes a string to the output, replacing each quote character with two consequent quote characters.
+     *
+     * @param s     string to write.
+     * @param quote quote character to escape.
+     * @return this compiler for chaining.
+     * @since 4.3.0
+     */
+    public QueryCompiler writeEscaped(CharSequence s, char quote) {
+        output.writeEscaped(s, quote);
+        return this;
+    }
+
     /**
      * Writes a single ASCII character to the output.
      *
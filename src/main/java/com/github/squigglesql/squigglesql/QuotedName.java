@@ -0,0 +1,79 @@
+/*
+ * Copyright 2019-2020 Egor Nepomnyaschih and contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.squigglesql.squigglesql;
+
+import com.github.squigglesql.squigglesql.syntax.SqlSyntax;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Identifier with its quoted forms rendered in advance for the identifier quotes of the built-in SQL syntaxes. Writing
+ * such an identifier is a single append. Other quotes fall back to {@link QueryCompiler#quote(String, char)}.
+ * <p>
+ * Tables and columns keep their quoted names for their whole life. Short-living objects, like function calls, share
+ * them via a bounded cache returned by {@link QuotedName#of(String)}.
+ */
+final class QuotedName {
+
+    private static final int CACHE_LIMIT = 1024;
+
+    private static final Map<String, QuotedName> CACHE = new ConcurrentHashMap<>();
+
+    private static final char[] QUOTES = {
+            SqlSyntax.POSTGRE_SQL_SYNTAX.getTableQuote(),
+            SqlSyntax.MY_SQL_SYNTAX.getTableQuote()
+    };
+
+    private final String name;
+    private final String[] quotedNames = new String[QUOTES.length];
+
+    QuotedName(String name) {
+        this.name = name;
+        for (int i = 0; i < QUOTES.length; ++i) {
+            // Leave the identifiers which can't be quoted to QueryCompiler to report the error.
+            if (name.indexOf(QUOTES[i]) == -1) {
+                quotedNames[i] = QUOTES[i] + name + QUOTES[i];
+            }
+        }
+    }
+
+    static QuotedName of(String name) {
+        QuotedName quotedName = CACHE.get(name);
+        if (quotedName == null) {
+            quotedName = new QuotedName(name);
+            // Once the cache is full, new names are rendered on every call, but the cache never grows unbounded.
+            if (CACHE.size() < CACHE_LIMIT) {
+                CACHE.putIfAbsent(name, quotedName);
+            }
+        }
+        return quotedName;
+    }
+
+    void write(QueryCompiler compiler, char quote) {
+        if (quote == 0) {
+            compiler.write(name);
+            return;
+        }
+        for (int i = 0; i < QUOTES.length; ++i) {
+            if (QUOTES[i] == quote && quotedNames[i] != null) {
+                compiler.write(quotedNames[i]);
+                return;
+            }
+        }
+        compiler.quote(name, quote);
+    }
+}
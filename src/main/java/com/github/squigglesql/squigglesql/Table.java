@@ -15,30 +15,70 @@
  */
 package com.github.squigglesql.squigglesql;
 
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Database table model. You should create a single table model for every table that you have in your database. Then
  * you should define its columns by calling {@link Table#get(String)} method. To use this table in particular queries,
  * you might need to create references to it by calling {@link Table#refer()} method.
+ * <p>
+ * Alternatively, you may declare all table columns in advance with {@link Table#Table(String, String...)}
+ * constructor. Such table model is immutable, and its columns get fixed ordinals.
+ * <p>
+ * Table models are thread-safe, so you may define them as constants and share them between threads.
  */
-public class Table {
+public class Table implements Compilable {
 
     private final String name;
+    private final QuotedName quotedName;
+    private final boolean declared;
 
-    private final Map<String, TableColumn> columnCache = new HashMap<>();
+    private final List<TableColumn> columns;
+    private final Map<String, TableColumn> columnCache;
 
     /**
-     * Creates a table model.
+     * Creates a table model. The columns get defined on demand by {@link Table#get(String)} method.
      *
      * @param name table name.
      */
     public Table(String name) {
-        if (name == null || name.equals("")) {
-            throw new IllegalArgumentException("Table name can not be empty.");
-        }
+        validateName(name);
         this.name = name;
+        this.quotedName = new QuotedName(name);
+        this.declared = false;
+        this.columns = Collections.emptyList();
+        this.columnCache = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Creates an immutable table model with a fixed list of columns. {@link Table#get(String)} method returns only
+     * the declared columns.
+     *
+     * @param name        table name.
+     * @param columnNames names of all table columns.
+     * @since 4.3.0
+     */
+    public Table(String name, String... columnNames) {
+        validateName(name);
+        this.name = name;
+        this.quotedName = new QuotedName(name);
+        this.declared = true;
+        TableColumn[] columns = new TableColumn[columnNames.length];
+        Map<String, TableColumn> columnCache = new HashMap<>();
+        for (int i = 0; i < columnNames.length; ++i) {
+            validateColumnName(columnNames[i]);
+            columns[i] = new TableColumn(this, columnNames[i], i);
+            if (columnCache.put(columnNames[i], columns[i]) != null) {
+                throw new IllegalArgumentException("Table column " + columnNames[i] + " is declared twice.");
+            }
+        }
+        this.columns = Collections.unmodifiableList(Arrays.asList(columns));
+        this.columnCache = Collections.unmodifiableMap(columnCache);
     }
 
     /**
@@ -48,20 +88,36 @@ public class Table {
         return name;
     }
 
+    /**
+     * @return columns declared in {@link Table#Table(String, String...)} constructor, in their ordinal order. Empty
+     * list if the columns get defined on demand.
+     * @since 4.3.0
+     */
+    public List<TableColumn> getColumns() {
+        return columns;
+    }
+
     /**
      * Gets a table column model.
      *
      * @param columnName column name.
      * @return column model.
+     * @throws IllegalArgumentException if the table columns are declared in advance and this column is not one of
+     *                                  them.
      */
     public TableColumn get(String columnName) {
-        if (columnName == null || columnName.equals("")) {
-            throw new IllegalArgumentException("Table column name can not be empty.");
-        }
+        validateColumnName(columnName);
         TableColumn column = columnCache.get(columnName);
         if (column == null) {
-            column = new TableColumn(this, columnName);
-            columnCache.put(columnName, column);
+            if (declared) {
+                throw new IllegalArgumentException("Table column " + columnName + " is not declared in table "
+                        + name + ".");
+            }
+            TableColumn newColumn = new TableColumn(this, columnName, -1);
+            column = columnCache.putIfAbsent(columnName, newColumn);
+            if (column == null) {
+                column = newColumn;
+            }
         }
         return column;
     }
@@ -75,4 +131,21 @@ public class Table {
     public TableReference refer() {
         return new TableReference(this);
     }
+
+    @Override
+    public void compile(QueryCompiler compiler) {
+        quotedName.write(compiler, compiler.getSyntax().getTableQuote());
+    }
+
+    private static void validateName(String name) {
+        if (name == null || name.equals("")) {
+            throw new IllegalArgumentException("Table name can not be empty.");
+        }
+    }
+
+    private static void validateColumnName(String columnName) {
+        if (columnName == null || columnName.equals("")) {
+            throw new IllegalArgumentException("Table column name can not be empty.");
+        }
+    }
 }
@@ -24,17 +24,22 @@ public class TableColumn implements Compilable {
 
     private final Table table;
     private final String name;
+    private final int ordinal;
+    private final QuotedName quotedName;
 
     /**
      * Creates a table column model. Instead of constructing this object directly, you should call
      * {@link Table#get(String)} method.
      *
-     * @param table table to obtain a column from.
-     * @param name  column name.
+     * @param table   table to obtain a column from.
+     * @param name    column name.
+     * @param ordinal 0-based index of the column in the table declaration, or -1 if the column is defined on demand.
      */
-    TableColumn(Table table, String name) {
+    TableColumn(Table table, String name, int ordinal) {
         this.table = table;
         this.name = name;
+        this.ordinal = ordinal;
+        this.quotedName = new QuotedName(name);
     }
 
     /**
@@ -51,8 +56,20 @@ public class TableColumn implements Compilable {
         return name;
     }
 
+    /**
+     * @return 0-based index of the column in {@link Table#getColumns()} list, or -1 if the column is defined on demand.
+     * @since 4.3.0
+     */
+    public int getOrdinal() {
+        return ordinal;
+    }
+
     @Override
     public void compile(QueryCompiler compiler) {
-        compiler.quote(name, compiler.getSyntax().getTableQuote());
+        writeName(compiler, compiler.getSyntax().getTableQuote());
+    }
+
+    void writeName(QueryCompiler compiler, char quote) {
+        quotedName.write(compiler, quote);
     }
 }
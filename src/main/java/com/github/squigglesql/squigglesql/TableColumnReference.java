@@ -56,8 +56,8 @@ public class TableColumnReference implements Selectable {
     public void compile(QueryCompiler compiler) {
         compiler
                 .quote(compiler.getAlias(tableReference), compiler.getSyntax().getTableReferenceQuote())
-                .write('.')
-                .quote(column.getName(), compiler.getSyntax().getColumnQuote());
+                .write('.');
+        column.writeName(compiler, compiler.getSyntax().getColumnQuote());
     }
 
     @Override
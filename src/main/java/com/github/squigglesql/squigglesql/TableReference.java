@@ -18,9 +18,9 @@ package com.github.squigglesql.squigglesql;
 import com.github.squigglesql.squigglesql.alias.Aliasable;
 import com.github.squigglesql.squigglesql.alias.PreferredAliases;
 
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Table reference that you may use in a query. You can obtain a new reference by calling {@link Table#refer()} method.
@@ -31,7 +31,7 @@ public class TableReference implements Aliasable, FromItem {
 
     private final Table table;
 
-    private final Map<TableColumn, TableColumnReference> columnReferenceCache = new HashMap<>();
+    private final Map<TableColumn, TableColumnReference> columnReferenceCache = new ConcurrentHashMap<>();
 
     /**
      * Creates a table reference. Instead of constructing this object directly, you should call {@link Table#refer()}
@@ -67,8 +67,11 @@ public class TableReference implements Aliasable, FromItem {
                 throw new IllegalArgumentException(
                         "Can not create a reference to a column defined in a different database table.");
             }
-            reference = new TableColumnReference(column, this);
-            columnReferenceCache.put(column, reference);
+            TableColumnReference newReference = new TableColumnReference(column, this);
+            reference = columnReferenceCache.putIfAbsent(column, newReference);
+            if (reference == null) {
+                reference = newReference;
+            }
         }
         return reference;
     }
@@ -76,7 +79,7 @@ public class TableReference implements Aliasable, FromItem {
     @Override
     public void compile(QueryCompiler compiler) {
         compiler
-                .quote(table.getName(), compiler.getSyntax().getTableQuote())
+                .write(table)
                 .write(' ')
                 .quote(compiler.getAlias(this), compiler.getSyntax().getTableReferenceQuote());
     }
@@ -16,8 +16,8 @@
 package com.github.squigglesql.squigglesql.alias;
 
 import java.util.Collection;
-import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Set;
 
@@ -72,7 +72,7 @@ public class AliasGenerator {
      * @return map from an object to its alias.
      */
     private <T extends Aliasable> Map<T, String> generateAliases(Collection<? extends T> collection) {
-        Map<T, String> aliases = new HashMap<>();
+        Map<T, String> aliases = new LinkedHashMap<>();
         for (T item : collection) {
             aliases.put(item, generateAlias(item));
         }
@@ -87,12 +87,21 @@ public class AliasGenerator {
      * @return alias.
      */
     public static String generateAlphabetic(int index, Alphabet alphabet) {
-        StringBuilder result = new StringBuilder();
+        String alias = alphabet.getPrecomputedAlias(index);
+        return alias != null ? alias : computeAlphabetic(index, alphabet);
+    }
+
+    static String computeAlphabetic(int index, Alphabet alphabet) {
+        int length = 0;
+        for (int i = index; i >= 0; i = i / alphabet.getLetterCount() - 1) {
+            ++length;
+        }
+        char[] result = new char[length];
         while (index >= 0) {
-            result.insert(0, (char) (alphabet.getFirstLetter() + index % alphabet.getLetterCount()));
+            result[--length] = (char) (alphabet.getFirstLetter() + index % alphabet.getLetterCount());
             index = index / alphabet.getLetterCount() - 1;
         }
-        return result.toString();
+        return new String(result);
     }
 
     /**
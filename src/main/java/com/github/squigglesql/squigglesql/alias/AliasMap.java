@@ -0,0 +1,70 @@
+/*
+ * Copyright 2019-2020 Egor Nepomnyaschih and contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.squigglesql.squigglesql.alias;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Immutable map from objects to their aliases. The objects are compared by identity, so the lookup doesn't call their
+ * hashCode and equals methods. The map never modifies the objects, so they can be shared between queries and threads.
+ *
+ * @param <T> type of an object.
+ * @since 4.3.0
+ */
+public final class AliasMap<T extends Aliasable> {
+
+    private final Map<T, String> map;
+    private final Map<T, String> aliases;
+
+    /**
+     * Creates an alias map. The map must not be modified afterwards.
+     *
+     * @param map map from an object to its alias, e.g. generated with
+     *            {@link AliasGenerator#generateAliases(java.util.Collection, Alphabet)}.
+     */
+    public AliasMap(Map<T, String> map) {
+        if (map == null) {
+            throw new IllegalArgumentException("Map can not be null.");
+        }
+        this.map = map;
+        this.aliases = new IdentityHashMap<>(map);
+    }
+
+    /**
+     * @param object object to return an alias of.
+     * @return alias of the object, or null if the map doesn't contain it.
+     */
+    public String get(T object) {
+        return aliases.get(object);
+    }
+
+    /**
+     * @return number of objects in the map.
+     */
+    public int size() {
+        return aliases.size();
+    }
+
+    /**
+     * @return objects in the map, in the order of the original map.
+     */
+    public Set<T> keySet() {
+        return Collections.unmodifiableSet(map.keySet());
+    }
+}
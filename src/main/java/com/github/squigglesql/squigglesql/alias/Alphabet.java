@@ -20,8 +20,11 @@ package com.github.squigglesql.squigglesql.alias;
  */
 public class Alphabet {
 
+    private static final int PRECOMPUTED_ALIAS_COUNT = 256;
+
     private final char firstLetter;
     private final int letterCount;
+    private final String[] aliases = new String[PRECOMPUTED_ALIAS_COUNT];
 
     /**
      * Creates an alphabet.
@@ -32,6 +35,9 @@ public class Alphabet {
     public Alphabet(char firstLetter, int letterCount) {
         this.firstLetter = firstLetter;
         this.letterCount = letterCount;
+        for (int i = 0; i < aliases.length; ++i) {
+            aliases[i] = AliasGenerator.computeAlphabetic(i, this);
+        }
     }
 
     /**
@@ -47,4 +53,14 @@ public class Alphabet {
     public int getLetterCount() {
         return letterCount;
     }
+
+    /**
+     * Returns a precomputed auto-incremented alias. Only the first few hundred indexes are precomputed.
+     *
+     * @param index 0-based index in auto-incremental sequence.
+     * @return alias, or null if the index is not precomputed.
+     */
+    String getPrecomputedAlias(int index) {
+        return index >= 0 && index < aliases.length ? aliases[index] : null;
+    }
 }
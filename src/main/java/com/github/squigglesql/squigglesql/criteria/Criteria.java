@@ -19,8 +19,10 @@ import com.github.squigglesql.squigglesql.Compilable;
 import com.github.squigglesql.squigglesql.Matchable;
 import com.github.squigglesql.squigglesql.TableReferred;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.List;
 
 /**
  * Criteria is a part of "WHERE" section of an SQL query. You may add multiple criterias to the query. They will be
@@ -248,6 +250,61 @@ public abstract class Criteria implements Compilable, TableReferred {
         return options.length == 0 ? LiteralCriteria.FALSE : new InCriteria(value, Arrays.asList(options));
     }
 
+    /**
+     * Instantiates a criteria representing "value IN (...options)" expression with the list of options padded up to
+     * the next power of two by repeating the last option. Padding doesn't change the result of the expression, but
+     * limits the number of distinct SQL codes to about log2(N) per query, so the database and driver statement caches
+     * can reuse them across requests with different numbers of options. If the list of options is empty, gets
+     * compiled to "0 = 1" which is constantly false.
+     *
+     * @param value   value to match.
+     * @param options options to match the value against.
+     * @return criteria.
+     * @since 4.3.0
+     */
+    public static Criteria inPadded(Matchable value, Collection<Matchable> options) {
+        return options.isEmpty() ? LiteralCriteria.FALSE : new InCriteria(value, pad(options));
+    }
+
+    /**
+     * Instantiates a criteria representing "value IN (...options)" expression with the list of options padded up to
+     * the next power of two by repeating the last option. See {@link #inPadded(Matchable, Collection)} for details.
+     *
+     * @param value   value to match.
+     * @param options options to match the value against.
+     * @return criteria.
+     * @since 4.3.0
+     */
+    public static Criteria inPadded(Matchable value, Matchable... options) {
+        return inPadded(value, Arrays.asList(options));
+    }
+
+    /**
+     * Instantiates a criteria representing "value IN (...elements)" expression for a list of plain Java values, e.g.
+     * IDs. On PostgreSQL and H2, the criteria gets compiled to "value = ANY(?)" with a single array parameter, so the
+     * SQL code doesn't depend on the number of elements. On other databases, it falls back to IN lists with one
+     * parameter per element, split into chunks of 1000 elements. The elements get bound with
+     * {@link java.sql.PreparedStatement#setObject(int, Object)} method in this case.
+     *
+     * @param value       value to match.
+     * @param elementType SQL type name of the elements used to create the array, e.g. "integer".
+     * @param elements    elements to match the value against.
+     * @return criteria.
+     * @since 4.3.0
+     */
+    public static Criteria inArray(Matchable value, String elementType, Collection<?> elements) {
+        if (value == null) {
+            throw new IllegalArgumentException("Value can not be null.");
+        }
+        if (elementType == null) {
+            throw new IllegalArgumentException("Element type can not be null.");
+        }
+        if (elements == null) {
+            throw new IllegalArgumentException("Elements can not be null.");
+        }
+        return new InArrayCriteria(value, elementType, elements.toArray());
+    }
+
     /**
      * Instantiates a criteria representing "NOT (criteria)" SQL expression.
      *
@@ -258,4 +315,17 @@ public abstract class Criteria implements Compilable, TableReferred {
     public static Criteria not(Criteria criteria) {
         return new NotCriteria(criteria);
     }
+
+    private static List<Matchable> pad(Collection<Matchable> options) {
+        List<Matchable> padded = new ArrayList<>(options);
+        Matchable last = padded.get(padded.size() - 1);
+        int size = Integer.highestOneBit(padded.size());
+        if (size != padded.size()) {
+            size <<= 1;
+        }
+        while (padded.size() < size) {
+            padded.add(last);
+        }
+        return padded;
+    }
 }
@@ -19,6 +19,7 @@ import com.github.squigglesql.squigglesql.QueryCompiler;
 import com.github.squigglesql.squigglesql.TableReference;
 import com.github.squigglesql.squigglesql.util.CollectionWriter;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Set;
 
@@ -28,7 +29,8 @@ class CriteriaGroup extends Criteria {
     private final String operator;
 
     CriteriaGroup(Collection<Criteria> criterias, String operator) {
-        this.criterias = criterias;
+        // Copied, so that the query plans memoized by the queries don't get stale if the caller modifies the collection.
+        this.criterias = new ArrayList<>(criterias);
         this.operator = operator;
     }
 
@@ -0,0 +1,45 @@
+/*
+ * Copyright 2019-2020 Egor Nepomnyaschih and contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.squigglesql.squigglesql.criteria;
+
+import com.github.squigglesql.squigglesql.Matchable;
+import com.github.squigglesql.squigglesql.QueryCompiler;
+import com.github.squigglesql.squigglesql.TableReference;
+
+import java.util.Set;
+
+class InArrayCriteria extends Criteria {
+
+    private final Matchable value;
+    private final String elementType;
+    private final Object[] elements;
+
+    InArrayCriteria(Matchable value, String elementType, Object[] elements) {
+        this.value = value;
+        this.elementType = elementType;
+        this.elements = elements;
+    }
+
+    @Override
+    public void compile(QueryCompiler compiler) {
+        compiler.getSyntax().compileInArray(compiler, value, elementType, elements);
+    }
+
+    @Override
+    public void collectTableReferences(Set<TableReference> tableReferences) {
+        value.collectTableReferences(tableReferences);
+    }
+}
@@ -26,9 +26,24 @@ public abstract class AbstractStringLiteral extends Literal {
     @Override
     public void compile(QueryCompiler compiler) {
         char quote = compiler.getSyntax().getTextQuote();
-        String str = String.valueOf(quote);
         // Note: we can't use compiler.quote method here as it fails to work with quote symbols in the input.
-        compiler.write(quote).write(getValue().toString().replace(str, str + str)).write(quote);
+        compiler.write(quote);
+        compileValue(compiler, quote);
+        compiler.write(quote);
+    }
+
+    /**
+     * Writes the escaped literal value between the quotes. By default, writes {@link AbstractStringLiteral#getValue()}
+     * with {@link QueryCompiler#writeEscaped(CharSequence, char)} method. Subclasses may override this method to write
+     * the value without converting it to a string first.
+     *
+     * @param compiler compiler to write the value to.
+     * @param quote    quote character to escape.
+     * @since 4.3.0
+     */
+    protected void compileValue(QueryCompiler compiler, char quote) {
+        Object value = getValue();
+        compiler.writeEscaped(value instanceof CharSequence ? (CharSequence) value : value.toString(), quote);
     }
 
     /**
@@ -15,6 +15,7 @@
  */
 package com.github.squigglesql.squigglesql.literal.time;
 
+import com.github.squigglesql.squigglesql.QueryCompiler;
 import com.github.squigglesql.squigglesql.literal.AbstractStringLiteral;
 
 import java.time.format.DateTimeFormatter;
@@ -41,6 +42,15 @@ public abstract class AbstractTimeLiteral extends AbstractStringLiteral {
         return getFormatter().format(value);
     }
 
+    @Override
+    protected void compileValue(QueryCompiler compiler, char quote) {
+        // Formatted dates and times never contain quote characters, so they need no escaping.
+        DateTimeFormatter formatter = getFormatter();
+        if (!IsoTimeWriter.write(compiler.getOutput(), value, formatter)) {
+            formatter.formatTo(value, compiler.getOutput());
+        }
+    }
+
     /**
      * @return date/time formatter to write the value to the output.
      */
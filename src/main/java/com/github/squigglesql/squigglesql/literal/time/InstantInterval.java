@@ -27,6 +27,9 @@ import java.time.format.DateTimeFormatter;
  */
 public class InstantInterval extends AbstractTimeLiteral {
 
+    static final DateTimeFormatter FORMATTER =
+            SquiggleConstants.TIMESTAMP_WITH_TIME_ZONE_FORMATTER.withZone(ZoneOffset.UTC);
+
     /**
      * Creates a literal.
      *
@@ -38,6 +41,6 @@ public class InstantInterval extends AbstractTimeLiteral {
 
     @Override
     protected DateTimeFormatter getFormatter() {
-        return SquiggleConstants.TIMESTAMP_WITH_TIME_ZONE_FORMATTER.withZone(ZoneOffset.UTC);
+        return FORMATTER;
     }
 }
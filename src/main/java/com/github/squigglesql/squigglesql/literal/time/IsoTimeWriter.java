@@ -0,0 +1,173 @@
+/*
+ * Copyright 2019-2020 Egor Nepomnyaschih and contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.squigglesql.squigglesql.literal.time;
+
+import com.github.squigglesql.squigglesql.Output;
+import com.github.squigglesql.squigglesql.SquiggleConstants;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.OffsetTime;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalAccessor;
+
+/**
+ * Writes date/time values formatted with {@link SquiggleConstants} formatters digit by digit, without going through
+ * {@link DateTimeFormatter}. Produces exactly the same output as the formatters do. Covers the years 1 to 9999 and
+ * the offsets in whole minutes - other values are left to the formatters.
+ */
+final class IsoTimeWriter {
+
+    private static final int SECONDS_PER_DAY = 86400;
+
+    private IsoTimeWriter() {
+    }
+
+    /**
+     * Writes a value formatted with one of {@link SquiggleConstants} formatters.
+     *
+     * @param output    output to write the value to.
+     * @param value     value to write.
+     * @param formatter formatter the value must be formatted with.
+     * @return false if the formatter or the value is not supported, and nothing has been written.
+     */
+    static boolean write(Output output, TemporalAccessor value, DateTimeFormatter formatter) {
+        if (formatter == SquiggleConstants.DATE_FORMATTER && value instanceof LocalDate) {
+            return writeDate(output, (LocalDate) value);
+        }
+        if (formatter == SquiggleConstants.TIME_FORMATTER && value instanceof LocalTime) {
+            writeTime(output, (LocalTime) value);
+            return true;
+        }
+        if (formatter == SquiggleConstants.TIMESTAMP_FORMATTER && value instanceof LocalDateTime) {
+            return writeTimestamp(output, (LocalDateTime) value);
+        }
+        if (formatter == SquiggleConstants.TIMESTAMP_WITH_TIME_ZONE_FORMATTER) {
+            if (value instanceof OffsetDateTime) {
+                OffsetDateTime dateTime = (OffsetDateTime) value;
+                return writeTimestamp(output, dateTime.toLocalDateTime(), dateTime.getOffset());
+            }
+            if (value instanceof ZonedDateTime) {
+                ZonedDateTime dateTime = (ZonedDateTime) value;
+                return writeTimestamp(output, dateTime.toLocalDateTime(), dateTime.getOffset());
+            }
+            return false;
+        }
+        if (formatter == SquiggleConstants.TIME_WITH_TIME_ZONE_FORMATTER && value instanceof OffsetTime) {
+            OffsetTime time = (OffsetTime) value;
+            if (!isSupported(time.getOffset())) {
+                return false;
+            }
+            writeTime(output, time.toLocalTime());
+            writeOffset(output, time.getOffset());
+            return true;
+        }
+        if (formatter == InstantInterval.FORMATTER && value instanceof Instant) {
+            Instant instant = (Instant) value;
+            long seconds = instant.getEpochSecond();
+            LocalDate date = LocalDate.ofEpochDay(Math.floorDiv(seconds, SECONDS_PER_DAY));
+            if (!isSupported(date)) {
+                return false;
+            }
+            int secondOfDay = (int) Math.floorMod(seconds, SECONDS_PER_DAY);
+            writeDate(output, date);
+            output.write(' ');
+            writeTime(output, secondOfDay / 3600, secondOfDay / 60 % 60, secondOfDay % 60, instant.getNano());
+            writeOffset(output, ZoneOffset.UTC);
+            return true;
+        }
+        return false;
+    }
+
+    private static boolean writeTimestamp(Output output, LocalDateTime dateTime, ZoneOffset offset) {
+        if (!isSupported(offset) || !writeTimestamp(output, dateTime)) {
+            return false;
+        }
+        writeOffset(output, offset);
+        return true;
+    }
+
+    private static boolean writeTimestamp(Output output, LocalDateTime dateTime) {
+        if (!writeDate(output, dateTime.toLocalDate())) {
+            return false;
+        }
+        output.write(' ');
+        writeTime(output, dateTime.toLocalTime());
+        return true;
+    }
+
+    // yyyy-MM-dd
+    private static boolean writeDate(Output output, LocalDate date) {
+        if (!isSupported(date)) {
+            return false;
+        }
+        int year = date.getYear();
+        writeTwoDigits(output, year / 100);
+        writeTwoDigits(output, year % 100);
+        output.write('-');
+        writeTwoDigits(output, date.getMonthValue());
+        output.write('-');
+        writeTwoDigits(output, date.getDayOfMonth());
+        return true;
+    }
+
+    // HH:mm:ss.SSS
+    private static void writeTime(Output output, LocalTime time) {
+        writeTime(output, time.getHour(), time.getMinute(), time.getSecond(), time.getNano());
+    }
+
+    private static void writeTime(Output output, int hour, int minute, int second, int nano) {
+        writeTwoDigits(output, hour);
+        output.write(':');
+        writeTwoDigits(output, minute);
+        output.write(':');
+        writeTwoDigits(output, second);
+        output.write('.');
+        int millis = nano / 1000000;
+        output.write((char) ('0' + millis / 100));
+        writeTwoDigits(output, millis % 100);
+    }
+
+    // x: +HH, or +HHmm if minutes are non-zero
+    private static void writeOffset(Output output, ZoneOffset offset) {
+        int totalSeconds = offset.getTotalSeconds();
+        output.write(totalSeconds < 0 ? '-' : '+');
+        int totalMinutes = Math.abs(totalSeconds) / 60;
+        writeTwoDigits(output, totalMinutes / 60);
+        if (totalMinutes % 60 != 0) {
+            writeTwoDigits(output, totalMinutes % 60);
+        }
+    }
+
+    private static void writeTwoDigits(Output output, int value) {
+        output.write((char) ('0' + value / 10));
+        output.write((char) ('0' + value % 10));
+    }
+
+    private static boolean isSupported(LocalDate date) {
+        // The formatters write the year of era, with a sign if it has more than 4 digits.
+        return date.getYear() >= 1 && date.getYear() <= 9999;
+    }
+
+    private static boolean isSupported(ZoneOffset offset) {
+        return offset.getTotalSeconds() % 60 == 0;
+    }
+}
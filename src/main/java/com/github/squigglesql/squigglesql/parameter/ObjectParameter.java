@@ -0,0 +1,34 @@
+/*
+ * Copyright 2019-2020 Egor Nepomnyaschih and contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.squigglesql.squigglesql.parameter;
+
+import com.github.squigglesql.squigglesql.statement.Parametrized;
+
+import java.sql.SQLException;
+
+class ObjectParameter extends Parameter {
+
+    private final Object value;
+
+    ObjectParameter(Object value) {
+        this.value = value;
+    }
+
+    @Override
+    public void addValue(Parametrized statement) throws SQLException {
+        statement.addObject(value);
+    }
+}
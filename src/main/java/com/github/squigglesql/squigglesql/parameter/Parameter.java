@@ -27,6 +27,7 @@ import java.sql.Date;
 import java.sql.SQLException;
 import java.sql.Time;
 import java.sql.Timestamp;
+import java.sql.Types;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -356,6 +357,34 @@ public abstract class Parameter implements Matchable {
         return new ArrayParameter(value);
     }
 
+    /**
+     * Instantiates an array parameter. Unlike {@link Parameter#of(Array)}, doesn't require a JDBC connection to create
+     * the array: the array gets created by the statement. The database must support arrays, e.g. PostgreSQL or H2.
+     *
+     * @param elementType SQL type name of the array elements, e.g. "integer".
+     * @param elements    array elements.
+     * @return parameter to use in a query.
+     * @since 4.3.0
+     */
+    public static Parameter ofArray(String elementType, Object[] elements) {
+        if (elementType == null) {
+            throw new IllegalArgumentException("Element type can not be null.");
+        }
+        return elements != null ? new ObjectArrayParameter(elementType, elements) : new NullParameter(Types.ARRAY);
+    }
+
+    /**
+     * Instantiates a parameter of an arbitrary class supported by the JDBC driver. The value gets passed to
+     * {@link java.sql.PreparedStatement#setObject(int, Object)} method. Prefer typed "of" methods if possible.
+     *
+     * @param value parameter value.
+     * @return parameter to use in a query.
+     * @since 4.3.0
+     */
+    public static Parameter ofObject(Object value) {
+        return value != null ? new ObjectParameter(value) : new NullParameter(Types.NULL);
+    }
+
     /**
      * Instantiates a binary data parameter. The corresponding PostgreSQL type is BYTEA.
      * To read the value, use {@link com.github.squigglesql.squigglesql.util.JdbcUtils#readBinary} method.
@@ -442,4 +471,17 @@ public abstract class Parameter implements Matchable {
     }
 
     // TODO: Add OffsetTime support.
+
+    /**
+     * Instantiates a named placeholder. A placeholder has no value, so a query with placeholders can not be converted
+     * to a statement directly. Prepare the query with {@link com.github.squigglesql.squigglesql.query.Query#prepare}
+     * method instead and bind the placeholder values by name on every execution.
+     *
+     * @param name placeholder name.
+     * @return placeholder to use in a query.
+     * @since 4.3.0
+     */
+    public static Placeholder placeholder(String name) {
+        return new Placeholder(name);
+    }
 }
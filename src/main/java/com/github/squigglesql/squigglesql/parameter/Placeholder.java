@@ -0,0 +1,55 @@
+/*
+ * Copyright 2019-2020 Egor Nepomnyaschih and contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.squigglesql.squigglesql.parameter;
+
+import com.github.squigglesql.squigglesql.statement.Parametrized;
+
+/**
+ * Named parameter placeholder. Placeholders let you compile a query once with
+ * {@link com.github.squigglesql.squigglesql.query.Query#prepare} method and bind the actual parameter values
+ * by name on every execution. To instantiate a placeholder, call {@link Parameter#placeholder(String)} method.
+ *
+ * @since 4.3.0
+ */
+public final class Placeholder extends Parameter {
+
+    private final String name;
+
+    Placeholder(String name) {
+        if (name == null) {
+            throw new IllegalArgumentException("Placeholder name can not be null.");
+        }
+        this.name = name;
+    }
+
+    /**
+     * @return placeholder name.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Always throws an exception, because placeholders have no value.
+     *
+     * @param statement statement adapter.
+     * @throws IllegalStateException always.
+     */
+    @Override
+    public void addValue(Parametrized statement) {
+        throw new IllegalStateException("Placeholder " + name + " is not bound.");
+    }
+}
@@ -0,0 +1,293 @@
+/*
+ * Copyright 2019-2020 Egor Nepomnyaschih and contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.squigglesql.squigglesql.query;
+
+import com.github.squigglesql.squigglesql.Compilable;
+import com.github.squigglesql.squigglesql.Matchable;
+import com.github.squigglesql.squigglesql.Output;
+import com.github.squigglesql.squigglesql.QueryCompiler;
+import com.github.squigglesql.squigglesql.Selectable;
+import com.github.squigglesql.squigglesql.Table;
+import com.github.squigglesql.squigglesql.TableColumn;
+import com.github.squigglesql.squigglesql.literal.Literal;
+import com.github.squigglesql.squigglesql.parameter.Parameter;
+import com.github.squigglesql.squigglesql.statement.StatementBuilder;
+import com.github.squigglesql.squigglesql.statement.StatementCompiler;
+import com.github.squigglesql.squigglesql.syntax.AbstractSqlSyntax;
+import com.github.squigglesql.squigglesql.util.CollectionWriter;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * SQL multi-row insertion query. Compiles to a single "INSERT INTO t(c1, c2) VALUES (...), (...)" statement, which
+ * inserts all rows in one database round trip. Large queries can be split to chunks with
+ * {@link BatchInsertQuery#split(AbstractSqlSyntax, int)} method to stay within the database limits.
+ *
+ * @since 4.3.0
+ */
+public class BatchInsertQuery extends Query {
+
+    private final Table table;
+    private final List<TableColumn> columns;
+    private final List<Row> rows;
+    private final ReturningClause returning;
+    private ConflictClause conflictClause;
+    private String[] generatedKeyColumns;
+
+    /**
+     * Creates a multi-row insertion query.
+     *
+     * @param table   table to insert rows to.
+     * @param columns columns to insert values to.
+     */
+    public BatchInsertQuery(Table table, TableColumn... columns) {
+        this(table, Arrays.asList(columns));
+    }
+
+    /**
+     * Creates a multi-row insertion query.
+     *
+     * @param table   table to insert rows to.
+     * @param columns columns to insert values to.
+     */
+    public BatchInsertQuery(Table table, List<TableColumn> columns) {
+        if (table == null) {
+            throw new IllegalArgumentException("Table can not be empty.");
+        }
+        if (columns == null || columns.isEmpty()) {
+            throw new IllegalArgumentException("Columns can not be empty.");
+        }
+        for (TableColumn column : columns) {
+            if (!column.getTable().equals(table)) {
+                throw new IllegalArgumentException("Can not insert a value to a different database table.");
+            }
+        }
+        this.table = table;
+        this.columns = new ArrayList<>(columns);
+        this.rows = new ArrayList<>();
+        this.returning = new ReturningClause();
+    }
+
+    private BatchInsertQuery(BatchInsertQuery query, List<Row> rows) {
+        this.table = query.table;
+        this.columns = query.columns;
+        this.rows = rows;
+        this.returning = query.returning;
+        this.conflictClause = query.conflictClause;
+        this.generatedKeyColumns = query.generatedKeyColumns;
+    }
+
+    /**
+     * Adds a row to the query.
+     *
+     * @param values row values, one per column.
+     */
+    public void addRow(Matchable... values) {
+        addRow(Arrays.asList(values));
+    }
+
+    /**
+     * Adds a row to the query.
+     *
+     * @param values row values, one per column.
+     */
+    public void addRow(List<? extends Matchable> values) {
+        if (values == null || values.size() != columns.size()) {
+            throw new IllegalArgumentException("Row must contain exactly " + columns.size() + " values.");
+        }
+        for (Matchable value : values) {
+            if (value == null) {
+                throw new IllegalArgumentException("Value can not be null.");
+            }
+        }
+        rows.add(new Row(new ArrayList<>(values)));
+    }
+
+    /**
+     * Makes the query resolve unique key conflicts in a single statement instead of failing: if a row with the same
+     * key exists, its update columns get assigned from the inserted values. See
+     * {@link InsertQuery#setOnConflict(List, List)} for details.
+     *
+     * @param keyColumns    columns of the unique key to detect conflicts by.
+     * @param updateColumns columns to update in the existing rows. If empty, the existing rows stay as is.
+     */
+    public void setOnConflict(List<TableColumn> keyColumns, List<TableColumn> updateColumns) {
+        conflictClause = new ConflictClause(table, keyColumns, updateColumns);
+    }
+
+    /**
+     * Restricts the generated keys returned by the query to the specified columns. By default, JDBC driver decides
+     * which columns to return, e.g. PostgreSQL driver returns all columns of the inserted rows.
+     *
+     * @param columns generated key columns, e.g. an auto-incremented primary key.
+     */
+    public void setGeneratedKeyColumns(TableColumn... columns) {
+        generatedKeyColumns = GeneratedKeys.getColumnNames(table, columns);
+    }
+
+    /**
+     * Adds a column to return from the inserted rows, e.g. a generated key, so the rows can be read without a
+     * follow-up selection query. Execute the query with
+     * {@link com.github.squigglesql.squigglesql.util.JdbcUtils#selectAll} or
+     * {@link com.github.squigglesql.squigglesql.util.JdbcUtils#selectOne} method then. The statement gets compiled
+     * with {@link com.github.squigglesql.squigglesql.syntax.AbstractSqlSyntax#compileReturning} method.
+     *
+     * @param selectable expression to return, referring to any reference of the inserted table.
+     * @return result column allowing to read the {@link java.sql.ResultSet}.
+     */
+    public ResultColumn addToReturning(Selectable selectable) {
+        return returning.add(selectable);
+    }
+
+    /**
+     * @return number of rows in the query.
+     */
+    public int getRowCount() {
+        return rows.size();
+    }
+
+    /**
+     * Splits the query to chunks. Every chunk contains at most maxRows rows, and the number of parameters in every
+     * chunk doesn't exceed {@link AbstractSqlSyntax#getMaxParameterCount()}. The rows keep their order, so the
+     * generated keys of the chunks can be concatenated.
+     *
+     * @param syntax  syntax the chunks will be compiled with.
+     * @param maxRows maximum number of rows per chunk.
+     * @return list of chunk queries.
+     */
+    public List<BatchInsertQuery> split(AbstractSqlSyntax syntax, int maxRows) {
+        if (syntax == null) {
+            throw new IllegalArgumentException("Syntax can not be null.");
+        }
+        if (maxRows <= 0) {
+            throw new IllegalArgumentException("Chunk size must be positive.");
+        }
+        if (rows.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        int maxParameters = syntax.getMaxParameterCount();
+        ParameterCounter counter = new ParameterCounter(syntax);
+
+        List<BatchInsertQuery> chunks = new ArrayList<>();
+        int start = 0;
+        int parameterCount = 0;
+        for (int i = 0; i < rows.size(); ++i) {
+            int rowParameterCount = counter.count(rows.get(i));
+            if (i > start && (i - start == maxRows || parameterCount + rowParameterCount > maxParameters)) {
+                chunks.add(new BatchInsertQuery(this, new ArrayList<>(rows.subList(start, i))));
+                start = i;
+                parameterCount = 0;
+            }
+            parameterCount += rowParameterCount;
+        }
+        chunks.add(new BatchInsertQuery(this, new ArrayList<>(rows.subList(start, rows.size()))));
+        return chunks;
+    }
+
+    @Override
+    protected void compile(Output output) {
+        if (rows.isEmpty()) {
+            throw new IllegalStateException("No rows specified for insertion.");
+        }
+
+        if (returning.isEmpty()) {
+            compileInsert(new QueryCompiler(output));
+        } else {
+            returning.compileInsert(output, table, this::compileInsert);
+        }
+    }
+
+    private void compileInsert(QueryCompiler compiler) {
+        if (conflictClause != null) {
+            List<List<Matchable>> values = new ArrayList<>(rows.size());
+            for (Row row : rows) {
+                values.add(row.values);
+            }
+            conflictClause.compile(compiler, table, columns, values);
+            return;
+        }
+
+        compiler.write("INSERT INTO ").write(table);
+        CollectionWriter.writeCollection(compiler, columns, ", ", true, false);
+
+        compiler.write(" VALUES ");
+        CollectionWriter.writeCollection(compiler, rows, ", ", false, false);
+    }
+
+    @Override
+    protected <S> StatementBuilder<S> createStatementBuilder(StatementCompiler<S> compiler, String query)
+            throws SQLException {
+        return getStatementBuilderFactory().createStatementBuilder(compiler, query);
+    }
+
+    @Override
+    StatementBuilderFactory getStatementBuilderFactory() {
+        return returning.isEmpty() ? StatementBuilderFactory.insert(generatedKeyColumns)
+                : StatementBuilderFactory.SELECT;
+    }
+
+    private static class Row implements Compilable {
+
+        private final List<Matchable> values;
+
+        Row(List<Matchable> values) {
+            this.values = values;
+        }
+
+        @Override
+        public void compile(QueryCompiler compiler) {
+            CollectionWriter.writeCollection(compiler, values, ", ", true, false);
+        }
+    }
+
+    /**
+     * Counts parameters of the rows without compiling them. Parameters and literals are counted directly, and only
+     * other values, e.g. function calls, get compiled to a scratch output to count their nested parameters.
+     */
+    private static class ParameterCounter {
+
+        private final AbstractSqlSyntax syntax;
+        private Output scratch;
+        private QueryCompiler compiler;
+
+        ParameterCounter(AbstractSqlSyntax syntax) {
+            this.syntax = syntax;
+        }
+
+        int count(Row row) {
+            int count = 0;
+            for (Matchable value : row.values) {
+                if (value instanceof Parameter) {
+                    ++count;
+                } else if (!(value instanceof Literal)) {
+                    if (compiler == null) {
+                        scratch = new Output(syntax);
+                        compiler = new QueryCompiler(scratch);
+                    }
+                    int before = scratch.getParameters().size();
+                    value.compile(compiler);
+                    count += scratch.getParameters().size() - before;
+                }
+            }
+            return count;
+        }
+    }
+}
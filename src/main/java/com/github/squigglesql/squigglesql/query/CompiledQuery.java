@@ -0,0 +1,160 @@
+/*
+ * Copyright 2019-2020 Egor Nepomnyaschih and contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.squigglesql.squigglesql.query;
+
+import com.github.squigglesql.squigglesql.Output;
+import com.github.squigglesql.squigglesql.parameter.Parameter;
+import com.github.squigglesql.squigglesql.parameter.Placeholder;
+import com.github.squigglesql.squigglesql.statement.Parametrized;
+import com.github.squigglesql.squigglesql.statement.StatementBuilder;
+import com.github.squigglesql.squigglesql.statement.StatementCompiler;
+import com.github.squigglesql.squigglesql.syntax.AbstractSqlSyntax;
+
+import java.sql.SQLException;
+
+/**
+ * Query compiled to SQL code for a specific syntax. The compiled query remembers the SQL code and the parameter slot
+ * layout, so it can be converted to statements multiple times without rebuilding and recompiling the query. Every "?"
+ * symbol in the SQL code is a slot. Slots are numbered from 0 in the order of their appearance in the SQL code.
+ *
+ * @since 4.3.0
+ */
+public class CompiledQuery {
+
+    private final StatementBuilderFactory statementBuilderFactory;
+    private final AbstractSqlSyntax syntax;
+    private final String sql;
+    private final Parameter[] parameters;
+
+    CompiledQuery(Query query, Output output) {
+        this.statementBuilderFactory = query.getStatementBuilderFactory();
+        this.syntax = output.getSyntax();
+        this.sql = output.toString();
+        this.parameters = output.getParameters().toArray(new Parameter[0]);
+    }
+
+    CompiledQuery(CompiledQuery query, Parameter[] parameters) {
+        this.statementBuilderFactory = query.statementBuilderFactory;
+        this.syntax = query.syntax;
+        this.sql = query.sql;
+        this.parameters = parameters;
+    }
+
+    /**
+     * @return SQL syntax the query is compiled with.
+     */
+    public AbstractSqlSyntax getSyntax() {
+        return syntax;
+    }
+
+    /**
+     * @return compiled SQL code.
+     */
+    public String getSql() {
+        return sql;
+    }
+
+    /**
+     * @return number of parameter slots in the SQL code.
+     */
+    public int getSlotCount() {
+        return parameters.length;
+    }
+
+    Parameter getParameter(int slot) {
+        return parameters[slot];
+    }
+
+    /**
+     * Converts the compiled query to a statement, binding the parameter values of the original query.
+     *
+     * @param compiler compiler to create a statement with.
+     * @param <S>      statement class.
+     * @return statement representing the query.
+     * @throws SQLException          if JDBC throws the exception.
+     * @throws IllegalStateException if the query contains placeholders.
+     */
+    public <S> S toStatement(StatementCompiler<S> compiler) throws SQLException {
+        return toStatement(compiler, parameters);
+    }
+
+    /**
+     * Converts the compiled query to a statement, binding new parameter values.
+     *
+     * @param compiler compiler to create a statement with.
+     * @param values   parameter values, one per slot.
+     * @param <S>      statement class.
+     * @return statement representing the query.
+     * @throws SQLException             if JDBC throws the exception.
+     * @throws IllegalArgumentException if the number of values doesn't match the number of slots.
+     * @throws IllegalStateException    if some values are unbound placeholders.
+     */
+    public <S> S toStatement(StatementCompiler<S> compiler, Parameter... values) throws SQLException {
+        validateParameters(values);
+        StatementBuilder<S> builder = createStatementBuilder(compiler);
+        addParameters(builder, values);
+        return builder.buildStatement();
+    }
+
+    /**
+     * Creates a statement builder with the compiled SQL code and no parameters bound. Along with
+     * {@link CompiledQuery#bindParameters}, lets you bind multiple parameter rows to the same statement, e.g. for
+     * batch execution.
+     *
+     * @param compiler compiler to create a statement builder with.
+     * @param <S>      statement class.
+     * @return statement builder.
+     * @throws SQLException if JDBC throws the exception.
+     */
+    public <S> StatementBuilder<S> createStatementBuilder(StatementCompiler<S> compiler) throws SQLException {
+        return statementBuilderFactory.createStatementBuilder(compiler, sql);
+    }
+
+    /**
+     * Binds parameter values to a statement, e.g. a statement builder.
+     *
+     * @param statement statement to bind the values to.
+     * @param values    parameter values, one per slot.
+     * @throws SQLException             if JDBC throws the exception.
+     * @throws IllegalArgumentException if the number of values doesn't match the number of slots.
+     * @throws IllegalStateException    if some values are unbound placeholders.
+     */
+    public void bindParameters(Parametrized statement, Parameter... values) throws SQLException {
+        validateParameters(values);
+        addParameters(statement, values);
+    }
+
+    private void validateParameters(Parameter[] values) {
+        if (values.length != parameters.length) {
+            throw new IllegalArgumentException("Expected " + parameters.length + " parameter values, got "
+                    + values.length + ".");
+        }
+        for (Parameter value : values) {
+            if (value == null) {
+                throw new IllegalArgumentException("Parameter value can not be null.");
+            }
+            if (value instanceof Placeholder) {
+                throw new IllegalStateException("Placeholder " + ((Placeholder) value).getName() + " is not bound.");
+            }
+        }
+    }
+
+    private static void addParameters(Parametrized statement, Parameter[] values) throws SQLException {
+        for (Parameter value : values) {
+            value.addValue(statement);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2019-2020 Egor Nepomnyaschih and contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.squigglesql.squigglesql.query;
+
+import com.github.squigglesql.squigglesql.Matchable;
+import com.github.squigglesql.squigglesql.QueryCompiler;
+import com.github.squigglesql.squigglesql.Table;
+import com.github.squigglesql.squigglesql.TableColumn;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Unique key conflict resolution of an insertion query. Compiles the query with
+ * {@link com.github.squigglesql.squigglesql.syntax.AbstractSqlSyntax#compileUpsert} method.
+ */
+class ConflictClause {
+
+    private final List<TableColumn> keyColumns;
+    private final List<TableColumn> updateColumns;
+
+    ConflictClause(Table table, List<TableColumn> keyColumns, List<TableColumn> updateColumns) {
+        if (keyColumns == null || keyColumns.isEmpty()) {
+            throw new IllegalArgumentException("Key columns can not be empty.");
+        }
+        if (updateColumns == null) {
+            throw new IllegalArgumentException("Update columns can not be null.");
+        }
+        checkTable(table, keyColumns);
+        checkTable(table, updateColumns);
+        this.keyColumns = new ArrayList<>(keyColumns);
+        this.updateColumns = new ArrayList<>(updateColumns);
+    }
+
+    void compile(QueryCompiler compiler, Table table, List<TableColumn> columns,
+                 List<? extends List<? extends Matchable>> rows) {
+        checkInserted(columns, keyColumns, "Key");
+        checkInserted(columns, updateColumns, "Update");
+        compiler.getSyntax().compileUpsert(compiler, table, columns, rows, keyColumns, updateColumns);
+    }
+
+    private static void checkTable(Table table, List<TableColumn> columns) {
+        for (TableColumn column : columns) {
+            if (!column.getTable().equals(table)) {
+                throw new IllegalArgumentException("Can not insert a value to a different database table.");
+            }
+        }
+    }
+
+    private static void checkInserted(List<TableColumn> columns, List<TableColumn> subset, String kind) {
+        for (TableColumn column : subset) {
+            if (!columns.contains(column)) {
+                throw new IllegalStateException(kind + " column " + column.getName() + " is not inserted.");
+            }
+        }
+    }
+}
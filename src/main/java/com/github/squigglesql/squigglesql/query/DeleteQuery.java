@@ -17,8 +17,10 @@ package com.github.squigglesql.squigglesql.query;
 
 import com.github.squigglesql.squigglesql.Output;
 import com.github.squigglesql.squigglesql.QueryCompiler;
+import com.github.squigglesql.squigglesql.Selectable;
 import com.github.squigglesql.squigglesql.TableReference;
 import com.github.squigglesql.squigglesql.alias.AliasGenerator;
+import com.github.squigglesql.squigglesql.alias.AliasMap;
 import com.github.squigglesql.squigglesql.criteria.Criteria;
 import com.github.squigglesql.squigglesql.statement.StatementBuilder;
 import com.github.squigglesql.squigglesql.statement.StatementCompiler;
@@ -26,7 +28,6 @@ import com.github.squigglesql.squigglesql.util.CollectionWriter;
 
 import java.sql.SQLException;
 import java.util.ArrayList;
-import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
 
@@ -39,6 +40,9 @@ public class DeleteQuery extends Query {
     
     private final TableReference tableReference;
     private final List<Criteria> criterias = new ArrayList<>();
+    private final ReturningClause returning = new ReturningClause();
+
+    private AliasMap<TableReference> tableReferenceAliases;
 
     /**
      * Creates a delete query.
@@ -62,20 +66,36 @@ public class DeleteQuery extends Query {
             throw new IllegalArgumentException("Criteria can not be null.");
         }
         this.criterias.add(criteria);
+        tableReferenceAliases = null;
+    }
+
+    /**
+     * Adds a column to return from the deleted rows, so they can be read without a follow-up selection query. Execute
+     * the query with {@link com.github.squigglesql.squigglesql.util.JdbcUtils#selectAll} or
+     * {@link com.github.squigglesql.squigglesql.util.JdbcUtils#selectOne} method then. The statement gets compiled
+     * with {@link com.github.squigglesql.squigglesql.syntax.AbstractSqlSyntax#compileReturning} method.
+     * The returned values are taken before the deletion.
+     *
+     * @param selectable expression to return, referring to the deleted table reference only.
+     * @return result column allowing to read the {@link java.sql.ResultSet}.
+     * @since 4.3.0
+     */
+    public ResultColumn addToReturning(Selectable selectable) {
+        return returning.add(selectable);
     }
 
     @Override
     protected void compile(Output output) {
-        Set<TableReference> tableReferences = findTableReferences();
-
-        if (tableReferences.size() > 1) {
-            throw new IllegalArgumentException("Cannot delete using multiple tables.");
+        if (returning.isEmpty()) {
+            compileDelete(QueryCompiler.withAliases(output, getTableReferenceAliases(), null));
+        } else {
+            returning.checkTableReference(tableReference);
+            returning.compile(output, getTableReferenceAliases(), this::compileDelete, tableReference, true);
         }
+    }
 
-        QueryCompiler queryCompiler = new QueryCompiler(output,
-                AliasGenerator.generateAliases(tableReferences, TABLE_REFERENCE_ALIAS_ALPHABET));
-
-        output.getSyntax().compileDeleteFrom(queryCompiler, tableReference);
+    private void compileDelete(QueryCompiler queryCompiler) {
+        queryCompiler.getSyntax().compileDeleteFrom(queryCompiler, tableReference);
 
         if (criterias.size() > 0) {
             queryCompiler.write("WHERE");
@@ -86,11 +106,31 @@ public class DeleteQuery extends Query {
     @Override
     protected <S> StatementBuilder<S> createStatementBuilder(StatementCompiler<S> compiler, String query)
             throws SQLException {
-        return compiler.createStatementBuilder(query);
+        return getStatementBuilderFactory().createStatementBuilder(compiler, query);
+    }
+
+    @Override
+    StatementBuilderFactory getStatementBuilderFactory() {
+        return returning.isEmpty() ? StatementBuilderFactory.DEFAULT : StatementBuilderFactory.SELECT;
+    }
+
+    private AliasMap<TableReference> getTableReferenceAliases() {
+        AliasMap<TableReference> aliases = tableReferenceAliases;
+        if (aliases == null) {
+            Set<TableReference> tableReferences = findTableReferences();
+
+            if (tableReferences.size() > 1) {
+                throw new IllegalArgumentException("Cannot delete using multiple tables.");
+            }
+
+            aliases = new AliasMap<>(AliasGenerator.generateAliases(tableReferences, TABLE_REFERENCE_ALIAS_ALPHABET));
+            tableReferenceAliases = aliases;
+        }
+        return aliases;
     }
 
     private Set<TableReference> findTableReferences() {
-        Set<TableReference> tables = new LinkedHashSet<>();
+        Set<TableReference> tables = new IdentityArraySet<>();
         tables.add(tableReference);
         for (Criteria criteria : criterias) {
             criteria.collectTableReferences(tables);
@@ -0,0 +1,43 @@
+/*
+ * Copyright 2019-2020 Egor Nepomnyaschih and contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.squigglesql.squigglesql.query;
+
+import com.github.squigglesql.squigglesql.Table;
+import com.github.squigglesql.squigglesql.TableColumn;
+
+/**
+ * Validation of generated key columns of the insertion queries.
+ */
+abstract class GeneratedKeys {
+
+    static String[] getColumnNames(Table table, TableColumn[] columns) {
+        if (columns == null || columns.length == 0) {
+            throw new IllegalArgumentException("Generated key columns can not be empty.");
+        }
+        String[] names = new String[columns.length];
+        for (int i = 0; i < columns.length; ++i) {
+            TableColumn column = columns[i];
+            if (column == null) {
+                throw new IllegalArgumentException("Generated key column can not be null.");
+            }
+            if (!column.getTable().equals(table)) {
+                throw new IllegalArgumentException("Can not return a key of a different database table.");
+            }
+            names[i] = column.getName();
+        }
+        return names;
+    }
+}
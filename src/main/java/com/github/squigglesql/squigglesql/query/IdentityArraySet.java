@@ -0,0 +1,99 @@
+/*
+ * Copyright 2019-2020 Egor Nepomnyaschih and contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.squigglesql.squigglesql.query;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * Insertion-ordered set comparing elements by identity. Elements are stored in an array, and small sets are searched
+ * linearly. Once the set grows beyond {@link #INDEX_THRESHOLD} elements, an identity hash index is built to keep
+ * additions constant-time. The set doesn't support removal.
+ *
+ * @param <E> element type.
+ */
+class IdentityArraySet<E> extends AbstractSet<E> {
+
+    private static final int INDEX_THRESHOLD = 16;
+
+    private Object[] elements = new Object[8];
+    private int size = 0;
+    private Map<Object, Boolean> index;
+
+    @Override
+    public boolean add(E element) {
+        if (contains(element)) {
+            return false;
+        }
+        if (size == elements.length) {
+            elements = Arrays.copyOf(elements, size * 2);
+        }
+        elements[size++] = element;
+        if (index != null) {
+            index.put(element, Boolean.TRUE);
+        } else if (size > INDEX_THRESHOLD) {
+            index = new IdentityHashMap<>(size * 2);
+            for (int i = 0; i < size; ++i) {
+                index.put(elements[i], Boolean.TRUE);
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public boolean contains(Object element) {
+        if (index != null) {
+            return index.containsKey(element);
+        }
+        for (int i = 0; i < size; ++i) {
+            if (elements[i] == element) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<E>() {
+
+            private int next = 0;
+
+            @Override
+            public boolean hasNext() {
+                return next < size;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public E next() {
+                if (next >= size) {
+                    throw new NoSuchElementException();
+                }
+                return (E) elements[next++];
+            }
+        };
+    }
+}
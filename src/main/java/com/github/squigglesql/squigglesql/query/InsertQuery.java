@@ -18,14 +18,17 @@ package com.github.squigglesql.squigglesql.query;
 import com.github.squigglesql.squigglesql.Matchable;
 import com.github.squigglesql.squigglesql.Output;
 import com.github.squigglesql.squigglesql.QueryCompiler;
+import com.github.squigglesql.squigglesql.Selectable;
 import com.github.squigglesql.squigglesql.Table;
 import com.github.squigglesql.squigglesql.TableColumn;
 import com.github.squigglesql.squigglesql.statement.StatementBuilder;
 import com.github.squigglesql.squigglesql.statement.StatementCompiler;
+import com.github.squigglesql.squigglesql.syntax.AbstractSqlSyntax;
 import com.github.squigglesql.squigglesql.util.CollectionWriter;
 
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -36,6 +39,9 @@ public class InsertQuery extends Query {
     private final Table table;
     private final List<TableColumn> columns = new ArrayList<>();
     private final List<Matchable> values = new ArrayList<>();
+    private final ReturningClause returning = new ReturningClause();
+    private ConflictClause conflictClause;
+    private String[] generatedKeyColumns;
 
     /**
      * Creates an insertion query.
@@ -63,13 +69,63 @@ public class InsertQuery extends Query {
         values.add(value);
     }
 
+    /**
+     * Makes the query resolve unique key conflicts in a single statement instead of failing: if a row with the same
+     * key exists, its update columns get assigned from the inserted values. The statement gets compiled with
+     * {@link AbstractSqlSyntax#compileUpsert} method. Both key and update columns must be inserted by the query.
+     *
+     * @param keyColumns    columns of the unique key to detect conflicts by.
+     * @param updateColumns columns to update in the existing row. If empty, the existing row stays as is.
+     * @since 4.3.0
+     */
+    public void setOnConflict(List<TableColumn> keyColumns, List<TableColumn> updateColumns) {
+        conflictClause = new ConflictClause(table, keyColumns, updateColumns);
+    }
+
+    /**
+     * Restricts the generated keys returned by the query to the specified columns. By default, JDBC driver decides
+     * which columns to return, e.g. PostgreSQL driver returns all columns of the inserted row.
+     *
+     * @param columns generated key columns, e.g. an auto-incremented primary key.
+     * @since 4.3.0
+     */
+    public void setGeneratedKeyColumns(TableColumn... columns) {
+        generatedKeyColumns = GeneratedKeys.getColumnNames(table, columns);
+    }
+
+    /**
+     * Adds a column to return from the inserted row, e.g. a generated key, so the row can be read without a
+     * follow-up selection query. Execute the query with
+     * {@link com.github.squigglesql.squigglesql.util.JdbcUtils#selectAll} or
+     * {@link com.github.squigglesql.squigglesql.util.JdbcUtils#selectOne} method then. The statement gets compiled
+     * with {@link com.github.squigglesql.squigglesql.syntax.AbstractSqlSyntax#compileReturning} method.
+     *
+     * @param selectable expression to return, referring to any reference of the inserted table.
+     * @return result column allowing to read the {@link java.sql.ResultSet}.
+     * @since 4.3.0
+     */
+    public ResultColumn addToReturning(Selectable selectable) {
+        return returning.add(selectable);
+    }
+
     @Override
     protected void compile(Output output) {
-        QueryCompiler compiler = new QueryCompiler(output);
+        if (returning.isEmpty()) {
+            compileInsert(new QueryCompiler(output));
+        } else {
+            returning.compileInsert(output, table, this::compileInsert);
+        }
+    }
 
-        compiler.write("INSERT INTO ").quote(table.getName(), output.getSyntax().getTableQuote());
+    private void compileInsert(QueryCompiler compiler) {
+        if (conflictClause != null) {
+            conflictClause.compile(compiler, table, columns, Collections.singletonList(values));
+            return;
+        }
+
+        compiler.write("INSERT INTO ").write(table);
         if (columns.isEmpty()) {
-            output.getSyntax().compileEmptyInsert(compiler);
+            compiler.getSyntax().compileEmptyInsert(compiler);
             return;
         }
         CollectionWriter.writeCollection(compiler, columns, ", ", true, false);
@@ -81,6 +137,12 @@ public class InsertQuery extends Query {
     @Override
     protected <S> StatementBuilder<S> createStatementBuilder(StatementCompiler<S> compiler, String query)
             throws SQLException {
-        return compiler.createInsertStatementBuilder(query);
+        return getStatementBuilderFactory().createStatementBuilder(compiler, query);
+    }
+
+    @Override
+    StatementBuilderFactory getStatementBuilderFactory() {
+        return returning.isEmpty() ? StatementBuilderFactory.insert(generatedKeyColumns)
+                : StatementBuilderFactory.SELECT;
     }
 }
@@ -15,12 +15,12 @@
  */
 package com.github.squigglesql.squigglesql.query;
 
-import com.github.squigglesql.squigglesql.BaseOrder;
 import com.github.squigglesql.squigglesql.QueryCompiler;
+import com.github.squigglesql.squigglesql.Selectable;
 
 import java.util.Set;
 
-class OrderByResult implements BaseOrder {
+class OrderByResult implements SelectOrder {
 
     private final ResultColumn column;
     private final boolean ascending;
@@ -30,6 +30,16 @@ class OrderByResult implements BaseOrder {
         this.ascending = ascending;
     }
 
+    @Override
+    public Selectable getSelectable() {
+        return column.getSelectable();
+    }
+
+    @Override
+    public boolean isAscending() {
+        return ascending;
+    }
+
     @Override
     public void compile(QueryCompiler compiler) {
         compiler.quote(compiler.getAlias(column), compiler.getSyntax().getResultColumnQuote());
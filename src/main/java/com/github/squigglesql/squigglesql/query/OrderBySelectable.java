@@ -15,7 +15,6 @@
  */
 package com.github.squigglesql.squigglesql.query;
 
-import com.github.squigglesql.squigglesql.BaseOrder;
 import com.github.squigglesql.squigglesql.QueryCompiler;
 import com.github.squigglesql.squigglesql.Selectable;
 
@@ -25,7 +24,7 @@ import java.util.Set;
  * TODO: Find a way to implement deep ordering by ResultColumn, such as:
  * SELECT e.first_name as a, e.last_name as b FROM employee e ORDER BY concat(a, b)
  */
-class OrderBySelectable implements BaseOrder {
+class OrderBySelectable implements SelectOrder {
 
     private final Selectable selectable;
     private final boolean ascending;
@@ -35,6 +34,16 @@ class OrderBySelectable implements BaseOrder {
         this.ascending = ascending;
     }
 
+    @Override
+    public Selectable getSelectable() {
+        return selectable;
+    }
+
+    @Override
+    public boolean isAscending() {
+        return ascending;
+    }
+
     @Override
     public void compile(QueryCompiler compiler) {
         compiler.write(selectable);
@@ -0,0 +1,204 @@
+/*
+ * Copyright 2019-2020 Egor Nepomnyaschih and contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.squigglesql.squigglesql.query;
+
+import com.github.squigglesql.squigglesql.Output;
+import com.github.squigglesql.squigglesql.parameter.Parameter;
+import com.github.squigglesql.squigglesql.parameter.Placeholder;
+import com.github.squigglesql.squigglesql.statement.StatementCompiler;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Immutable query template produced by {@link Query#prepare} method. In addition to positional slots provided by
+ * {@link CompiledQuery}, the template lets you bind values by the names of
+ * {@link Parameter#placeholder(String) placeholders} used in the query. If a placeholder is used multiple times,
+ * all its slots get bound at once.
+ * <p>
+ * To convert the template to a statement, obtain a new {@link Binding} by calling {@link PreparedTemplate#bind()},
+ * set the placeholder values and call {@link Binding#toStatement}.
+ * <p>
+ * Templates returned by {@link QueryCache} don't remember the parameter values of the query they were compiled from,
+ * because the query was built for another caller. Such templates require all values to be bound explicitly, and
+ * {@link PreparedTemplate#toStatement(StatementCompiler)} throws an exception for them.
+ *
+ * @since 4.3.0
+ */
+public class PreparedTemplate extends CompiledQuery {
+
+    private final Map<String, int[]> namedSlots;
+    private final boolean detached;
+
+    PreparedTemplate(Query query, Output output) {
+        super(query, output);
+        this.detached = false;
+
+        Map<String, List<Integer>> slotLists = new HashMap<>();
+        for (int slot = 0; slot < getSlotCount(); ++slot) {
+            Parameter parameter = getParameter(slot);
+            if (parameter instanceof Placeholder) {
+                slotLists.computeIfAbsent(((Placeholder) parameter).getName(), name -> new ArrayList<>()).add(slot);
+            }
+        }
+
+        Map<String, int[]> namedSlots = new HashMap<>();
+        for (Map.Entry<String, List<Integer>> entry : slotLists.entrySet()) {
+            namedSlots.put(entry.getKey(), entry.getValue().stream().mapToInt(Integer::intValue).toArray());
+        }
+        this.namedSlots = namedSlots;
+    }
+
+    private PreparedTemplate(PreparedTemplate template, Parameter[] parameters) {
+        super(template, parameters);
+        this.namedSlots = template.namedSlots;
+        this.detached = true;
+    }
+
+    /**
+     * Creates a copy of the template which doesn't remember the parameter values of the original query. Only
+     * placeholders are kept, and all other slots are left unbound.
+     *
+     * @return detached template.
+     */
+    PreparedTemplate detach() {
+        if (detached) {
+            return this;
+        }
+        Parameter[] parameters = new Parameter[getSlotCount()];
+        for (int slot = 0; slot < parameters.length; ++slot) {
+            Parameter parameter = getParameter(slot);
+            if (parameter instanceof Placeholder) {
+                parameters[slot] = parameter;
+            }
+        }
+        return new PreparedTemplate(this, parameters);
+    }
+
+    /**
+     * @return names of the placeholders used in the query.
+     */
+    public Set<String> getPlaceholderNames() {
+        return Collections.unmodifiableSet(namedSlots.keySet());
+    }
+
+    /**
+     * Converts the template to a statement, binding the parameter values of the original query.
+     *
+     * @param compiler compiler to create a statement with.
+     * @param <S>      statement class.
+     * @return statement representing the query.
+     * @throws SQLException          if JDBC throws the exception.
+     * @throws IllegalStateException if the query contains placeholders or the template is returned by
+     *                               {@link QueryCache}.
+     */
+    @Override
+    public <S> S toStatement(StatementCompiler<S> compiler) throws SQLException {
+        if (detached) {
+            throw new IllegalStateException("Cached query template requires parameter values to be bound explicitly.");
+        }
+        return super.toStatement(compiler);
+    }
+
+    /**
+     * Creates a new binding of parameter values. Initially, all slots are bound to the parameters of the original
+     * query, and all placeholders are unbound. For templates returned by {@link QueryCache}, all slots are unbound.
+     *
+     * @return new binding.
+     */
+    public Binding bind() {
+        return new Binding();
+    }
+
+    /**
+     * Set of parameter values to convert a {@link PreparedTemplate} to a statement with. The binding is not
+     * thread-safe, so you should create a new binding for every execution.
+     */
+    public final class Binding {
+
+        private final Parameter[] values = new Parameter[getSlotCount()];
+
+        private Binding() {
+            for (int slot = 0; slot < values.length; ++slot) {
+                values[slot] = getParameter(slot);
+            }
+        }
+
+        /**
+         * Binds a value to all slots of a placeholder.
+         *
+         * @param name  placeholder name.
+         * @param value parameter value.
+         * @return this binding for chaining.
+         * @throws IllegalArgumentException if the query doesn't contain the placeholder.
+         */
+        public Binding set(String name, Parameter value) {
+            if (value == null) {
+                throw new IllegalArgumentException("Parameter value can not be null.");
+            }
+            int[] slots = namedSlots.get(name);
+            if (slots == null) {
+                throw new IllegalArgumentException("Query doesn't contain placeholder " + name + ".");
+            }
+            for (int slot : slots) {
+                values[slot] = value;
+            }
+            return this;
+        }
+
+        /**
+         * Binds a value to a positional slot.
+         *
+         * @param slot  0-based slot index.
+         * @param value parameter value.
+         * @return this binding for chaining.
+         * @throws IllegalArgumentException if the slot index is out of bounds.
+         */
+        public Binding set(int slot, Parameter value) {
+            if (value == null) {
+                throw new IllegalArgumentException("Parameter value can not be null.");
+            }
+            if (slot < 0 || slot >= values.length) {
+                throw new IllegalArgumentException("Slot index " + slot + " is out of bounds.");
+            }
+            values[slot] = value;
+            return this;
+        }
+
+        /**
+         * Converts the template to a statement with the bound parameter values.
+         *
+         * @param compiler compiler to create a statement with.
+         * @param <S>      statement class.
+         * @return statement representing the query.
+         * @throws SQLException          if JDBC throws the exception.
+         * @throws IllegalStateException if some placeholders or slots are not bound.
+         */
+        public <S> S toStatement(StatementCompiler<S> compiler) throws SQLException {
+            for (int slot = 0; slot < values.length; ++slot) {
+                if (values[slot] == null) {
+                    throw new IllegalStateException("Slot " + slot + " is not bound.");
+                }
+            }
+            return PreparedTemplate.this.toStatement(compiler, values);
+        }
+    }
+}
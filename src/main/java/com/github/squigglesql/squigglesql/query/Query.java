@@ -50,6 +50,17 @@ public abstract class Query {
     protected abstract <S> StatementBuilder<S> createStatementBuilder(StatementCompiler<S> compiler, String query)
             throws SQLException;
 
+    /**
+     * Returns a factory creating the same statement builders as {@link Query#createStatementBuilder}. Compiled queries
+     * keep the factory instead of the query. Built-in queries override this method to return a factory which doesn't
+     * reference the query.
+     *
+     * @return statement builder factory.
+     */
+    StatementBuilderFactory getStatementBuilderFactory() {
+        return this::createStatementBuilder;
+    }
+
     /**
      * Compiles the query to a string using default SQL syntax. The syntax may not be compatible with your particular
      * database, so it is recommended to use this method only for logging, testing, debugging and demonstration
@@ -86,9 +97,70 @@ public abstract class Query {
      * @return SQL code representing the query.
      */
     public String toString(AbstractSqlSyntax syntax, String indent) {
-        Output out = new Output(syntax, indent);
-        compile(out);
-        return out.toString();
+        return toString(syntax, indent, false);
+    }
+
+    /**
+     * Compiles the query to a string using the specified SQL syntax. In compact mode, the whole query gets written in
+     * a single line with minimal whitespace, which produces smaller strings and JDBC packets. Use it in production when
+     * nobody needs to read the query.
+     * If you use a parametrized query, consider using
+     * {@link Query#toStatement(AbstractSqlSyntax, StatementCompiler, boolean)} method, or parameter values won't be
+     * used.
+     *
+     * @param syntax  syntax to compile the query with.
+     * @param compact write the query in a single line.
+     * @return SQL code representing the query.
+     * @since 4.3.0
+     */
+    public String toString(AbstractSqlSyntax syntax, boolean compact) {
+        return toString(syntax, Output.DEFAULT_INDENT, compact);
+    }
+
+    private String toString(AbstractSqlSyntax syntax, String indent, boolean compact) {
+        Output out = Output.borrow(syntax, indent, compact);
+        try {
+            compile(out);
+            return out.toString();
+        } finally {
+            out.release();
+        }
+    }
+
+    /**
+     * Compiles the query to a reusable template. The template can be converted to statements multiple times, binding
+     * new parameter values on every execution without rebuilding and recompiling the query. Use
+     * {@link com.github.squigglesql.squigglesql.parameter.Parameter#placeholder(String)} to define named slots.
+     *
+     * @param syntax syntax to compile the query with.
+     * @return prepared template.
+     * @since 4.3.0
+     */
+    public PreparedTemplate prepare(AbstractSqlSyntax syntax) {
+        return prepare(syntax, false);
+    }
+
+    /**
+     * Compiles the query to a reusable template. The template can be converted to statements multiple times, binding
+     * new parameter values on every execution without rebuilding and recompiling the query. Use
+     * {@link com.github.squigglesql.squigglesql.parameter.Parameter#placeholder(String)} to define named slots.
+     *
+     * @param syntax  syntax to compile the query with.
+     * @param compact write the query in a single line.
+     * @return prepared template.
+     * @since 4.3.0
+     */
+    public PreparedTemplate prepare(AbstractSqlSyntax syntax, boolean compact) {
+        if (syntax == null) {
+            throw new IllegalArgumentException("Syntax can not be null.");
+        }
+        Output out = Output.borrow(syntax, Output.DEFAULT_INDENT, compact);
+        try {
+            compile(out);
+            return new PreparedTemplate(this, out);
+        } finally {
+            out.release();
+        }
     }
 
     /**
@@ -105,6 +177,22 @@ public abstract class Query {
         return toStatement(compiler.detectDefaultSyntax(), compiler);
     }
 
+    /**
+     * Compiles the query to a statement (e.g. {@link java.sql.PreparedStatement}) using the specified compiler.
+     * The SQL syntax should be detected by the compiler automatically. If the detection fails, you should use
+     * {@link Query#toStatement(AbstractSqlSyntax, StatementCompiler, boolean)} and specify the syntax explicitly.
+     *
+     * @param compiler compiler to use to compile the query.
+     * @param compact  write the query in a single line.
+     * @param <S>      statement class.
+     * @return statement representing the query.
+     * @throws SQLException if JDBC throws the exception.
+     * @since 4.3.0
+     */
+    public <S> S toStatement(StatementCompiler<S> compiler, boolean compact) throws SQLException {
+        return toStatement(compiler.detectDefaultSyntax(), compiler, compact);
+    }
+
     /**
      * Compiles the query to a statement (e.g. {@link java.sql.PreparedStatement}) using the specified compiler and
      * SQL syntax.
@@ -116,9 +204,32 @@ public abstract class Query {
      * @throws SQLException if JDBC throws the exception.
      */
     public <S> S toStatement(AbstractSqlSyntax syntax, StatementCompiler<S> compiler) throws SQLException {
-        Output out = new Output(syntax);
-        compile(out);
-        StatementBuilder<S> builder = createStatementBuilder(compiler, out.toString());
+        return toStatement(syntax, compiler, false);
+    }
+
+    /**
+     * Compiles the query to a statement (e.g. {@link java.sql.PreparedStatement}) using the specified compiler and
+     * SQL syntax.
+     *
+     * @param compiler compiler to use to compile the query.
+     * @param syntax   syntax to compile the query with.
+     * @param compact  write the query in a single line.
+     * @param <S>      statement class.
+     * @return statement representing the query.
+     * @throws SQLException if JDBC throws the exception.
+     * @since 4.3.0
+     */
+    public <S> S toStatement(AbstractSqlSyntax syntax, StatementCompiler<S> compiler, boolean compact)
+            throws SQLException {
+        Output out = Output.borrow(syntax, Output.DEFAULT_INDENT, compact);
+        String query;
+        try {
+            compile(out);
+            query = out.toString();
+        } finally {
+            out.release();
+        }
+        StatementBuilder<S> builder = createStatementBuilder(compiler, query);
         out.dumpParameters(builder);
         return builder.buildStatement();
     }
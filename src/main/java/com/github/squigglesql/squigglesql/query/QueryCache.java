@@ -0,0 +1,149 @@
+/*
+ * Copyright 2019-2020 Egor Nepomnyaschih and contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.squigglesql.squigglesql.query;
+
+import com.github.squigglesql.squigglesql.syntax.AbstractSqlSyntax;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Thread-safe cache of compiled queries. Most applications build a limited number of query shapes (e.g. one per DAO
+ * method) and only change parameter values between the executions. The cache compiles every shape once per SQL syntax
+ * and then binds new parameter values to the cached {@link PreparedTemplate}, skipping both query building and
+ * compilation.
+ * <p>
+ * The shape is identified by a key provided by the caller. It is up to the caller to make sure that all queries
+ * produced for the same key compile to the same SQL code, e.g. by using a dedicated constant per DAO method.
+ * When the cache is full, new shapes are compiled on every call without being cached.
+ * <p>
+ * The returned templates don't remember the parameter values of the query built by the factory, so you must provide
+ * the values on every call, either positionally with {@link CompiledQuery#toStatement} method accepting the values or
+ * with {@link PreparedTemplate#bind()}.
+ *
+ * @since 4.3.0
+ */
+public class QueryCache {
+
+    /**
+     * Default maximum number of cached queries.
+     */
+    public static final int DEFAULT_CAPACITY = 1024;
+
+    private final int capacity;
+    private final ConcurrentMap<AbstractSqlSyntax, ConcurrentMap<Object, PreparedTemplate>> cache =
+            new ConcurrentHashMap<>();
+    private final AtomicInteger size = new AtomicInteger();
+
+    /**
+     * Creates a query cache with default capacity.
+     */
+    public QueryCache() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a query cache.
+     *
+     * @param capacity maximum number of cached queries.
+     */
+    public QueryCache(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive.");
+        }
+        this.capacity = capacity;
+    }
+
+    /**
+     * Returns a prepared template of the specified shape, compiling and caching it if needed.
+     *
+     * @param shape   key identifying the query shape.
+     * @param syntax  syntax to compile the query with.
+     * @param factory callback building the query. Gets called only if the query is not cached yet.
+     * @return prepared template with all parameter values unbound.
+     */
+    public PreparedTemplate get(Object shape, AbstractSqlSyntax syntax, Supplier<? extends Query> factory) {
+        if (shape == null) {
+            throw new IllegalArgumentException("Query shape can not be null.");
+        }
+        if (syntax == null) {
+            throw new IllegalArgumentException("Syntax can not be null.");
+        }
+        if (factory == null) {
+            throw new IllegalArgumentException("Query factory can not be null.");
+        }
+        ConcurrentMap<Object, PreparedTemplate> queries = getQueries(syntax);
+        PreparedTemplate template = queries.get(shape);
+        if (template != null) {
+            return template;
+        }
+        Query query = factory.get();
+        if (query == null) {
+            throw new IllegalArgumentException("Query factory returned null.");
+        }
+        template = query.prepare(syntax).detach();
+        if (!reserveSlot()) {
+            return template;
+        }
+        PreparedTemplate existing = queries.putIfAbsent(shape, template);
+        if (existing != null) {
+            size.decrementAndGet();
+            return existing;
+        }
+        return template;
+    }
+
+    private boolean reserveSlot() {
+        while (true) {
+            int current = size.get();
+            if (current >= capacity) {
+                return false;
+            }
+            if (size.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    private ConcurrentMap<Object, PreparedTemplate> getQueries(AbstractSqlSyntax syntax) {
+        ConcurrentMap<Object, PreparedTemplate> queries = cache.get(syntax);
+        if (queries == null) {
+            queries = new ConcurrentHashMap<>();
+            ConcurrentMap<Object, PreparedTemplate> existing = cache.putIfAbsent(syntax, queries);
+            if (existing != null) {
+                queries = existing;
+            }
+        }
+        return queries;
+    }
+
+    /**
+     * @return number of cached queries.
+     */
+    public int size() {
+        return size.get();
+    }
+
+    /**
+     * Removes all queries from the cache.
+     */
+    public void clear() {
+        cache.clear();
+        size.set(0);
+    }
+}
@@ -46,6 +46,10 @@ public class ResultColumn implements Aliasable, Compilable, TableReferred {
         return index;
     }
 
+    Selectable getSelectable() {
+        return selectable;
+    }
+
     @Override
     public void compile(QueryCompiler compiler) {
         compiler.write(selectable);
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2019-2020 Egor Nepomnyaschih and contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.squigglesql.squigglesql.query;
+
+import com.github.squigglesql.squigglesql.Compilable;
+import com.github.squigglesql.squigglesql.Output;
+import com.github.squigglesql.squigglesql.QueryCompiler;
+import com.github.squigglesql.squigglesql.Selectable;
+import com.github.squigglesql.squigglesql.Table;
+import com.github.squigglesql.squigglesql.TableReference;
+import com.github.squigglesql.squigglesql.alias.AliasMap;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Columns returned by a data modification query. Compiles the query with
+ * {@link com.github.squigglesql.squigglesql.syntax.AbstractSqlSyntax#compileReturning} method.
+ */
+class ReturningClause {
+
+    private static final AliasMap<ResultColumn> NO_RESULT_COLUMN_ALIASES = new AliasMap<>(Collections.emptyMap());
+
+    private final List<ResultColumn> columns = new ArrayList<>();
+
+    ResultColumn add(Selectable selectable) {
+        if (selectable == null) {
+            throw new IllegalArgumentException("Selection can not be null.");
+        }
+        ResultColumn resultColumn = new ResultColumn(selectable, columns.size() + 1);
+        columns.add(resultColumn);
+        return resultColumn;
+    }
+
+    boolean isEmpty() {
+        return columns.isEmpty();
+    }
+
+    Set<TableReference> collectTableReferences() {
+        Set<TableReference> tableReferences = new IdentityArraySet<>();
+        for (ResultColumn column : columns) {
+            column.collectTableReferences(tableReferences);
+        }
+        return tableReferences;
+    }
+
+    void checkTableReference(TableReference tableReference) {
+        for (TableReference reference : collectTableReferences()) {
+            if (reference != tableReference) {
+                throw new IllegalStateException("Returned columns can only refer to the modified table.");
+            }
+        }
+    }
+
+    void compile(Output output, AliasMap<TableReference> tableReferenceAliases, Compilable statement,
+                 TableReference tableReference, boolean deleted) {
+        QueryCompiler compiler = QueryCompiler.withAliases(output, tableReferenceAliases, NO_RESULT_COLUMN_ALIASES);
+        output.getSyntax().compileReturning(compiler, statement, tableReference, columns, deleted);
+    }
+
+    void compileInsert(Output output, Table table, Compilable statement) {
+        // Insertion statement has no table aliases, so the returned columns refer to the table by its name.
+        Set<TableReference> tableReferences = collectTableReferences();
+        Map<TableReference, String> aliases = new HashMap<>();
+        for (TableReference reference : tableReferences) {
+            if (!reference.getTable().equals(table)) {
+                throw new IllegalStateException("Returned columns can only refer to the modified table.");
+            }
+            aliases.put(reference, table.getName());
+        }
+        TableReference tableReference = tableReferences.isEmpty() ? table.refer() : tableReferences.iterator().next();
+        aliases.put(tableReference, table.getName());
+        compile(output, new AliasMap<>(aliases), statement, tableReference, false);
+    }
+}
@@ -17,6 +17,7 @@ package com.github.squigglesql.squigglesql.query;
 
 import com.github.squigglesql.squigglesql.*;
 import com.github.squigglesql.squigglesql.alias.AliasGenerator;
+import com.github.squigglesql.squigglesql.alias.AliasMap;
 import com.github.squigglesql.squigglesql.alias.Alphabet;
 import com.github.squigglesql.squigglesql.criteria.Criteria;
 import com.github.squigglesql.squigglesql.statement.StatementBuilder;
@@ -36,10 +37,16 @@ public class SelectQuery extends Query implements Matchable {
     private final List<ResultColumn> selection = new ArrayList<>();
     private final List<FromItem> fromItems = new ArrayList<>();
     private final List<Criteria> criterias = new ArrayList<>();
-    private final List<BaseOrder> orders = new ArrayList<>();
+    private final List<SelectOrder> orders = new ArrayList<>();
 
     private final boolean distinct;
 
+    private Matchable limit;
+    private Matchable offset;
+    private List<Matchable> lastKey = Collections.emptyList();
+
+    private Plan plan;
+
     /**
      * Creates a selection query.
      */
@@ -68,6 +75,7 @@ public class SelectQuery extends Query implements Matchable {
         }
         ResultColumn resultColumn = new ResultColumn(selectable, selection.size() + 1);
         selection.add(resultColumn);
+        plan = null;
         return resultColumn;
     }
 
@@ -85,6 +93,7 @@ public class SelectQuery extends Query implements Matchable {
             throw new IllegalArgumentException("From item can not be null.");
         }
         fromItems.add(fromItem);
+        plan = null;
     }
 
     /**
@@ -97,6 +106,7 @@ public class SelectQuery extends Query implements Matchable {
             throw new IllegalArgumentException("Criteria can not be null.");
         }
         this.criterias.add(criteria);
+        plan = null;
     }
 
     /**
@@ -110,6 +120,7 @@ public class SelectQuery extends Query implements Matchable {
             throw new IllegalArgumentException("Ordering column can not be null.");
         }
         this.orders.add(new OrderByResult(resultColumn, ascending));
+        plan = null;
     }
 
     /**
@@ -123,6 +134,61 @@ public class SelectQuery extends Query implements Matchable {
             throw new IllegalArgumentException("Ordering criteria can not be null.");
         }
         this.orders.add(new OrderBySelectable(selectable, ascending));
+        plan = null;
+    }
+
+    /**
+     * Limits the number of rows returned by the query. The clause gets compiled with
+     * {@link com.github.squigglesql.squigglesql.syntax.AbstractSqlSyntax#compileLimit} according to the database
+     * syntax. Use a parameter to keep the compiled SQL code the same for all limit values.
+     *
+     * @param limit maximum number of rows to return, or null to remove the limit.
+     * @since 4.3.0
+     */
+    public void setLimit(Matchable limit) {
+        this.limit = limit;
+    }
+
+    /**
+     * Skips the specified number of rows of the query result. The clause gets compiled with
+     * {@link com.github.squigglesql.squigglesql.syntax.AbstractSqlSyntax#compileLimit} according to the database
+     * syntax. Use a parameter to keep the compiled SQL code the same for all offset values. The database still has
+     * to read the skipped rows, so consider {@link SelectQuery#setKeysetPage} for deep pagination.
+     *
+     * @param offset number of rows to skip, or null to remove the offset.
+     * @since 4.3.0
+     */
+    public void setOffset(Matchable offset) {
+        this.offset = offset;
+    }
+
+    /**
+     * Restricts the query to a page of rows following the last seen row (keyset pagination). The rows are compared by
+     * the expressions registered with addOrder methods, so the orders must identify every row uniquely, e.g. end with
+     * a primary key. The keyset criteria gets added to "WHERE" section, and the row limit gets compiled with
+     * {@link com.github.squigglesql.squigglesql.syntax.AbstractSqlSyntax#compileLimit}. Unlike an offset, this keeps
+     * the cost of every page proportional to its size if there's a matching index.
+     * <p>
+     * Use parameters for the page size and the key values to keep the compiled SQL code the same for all pages except
+     * the first one. NULL key values are not supported.
+     *
+     * @param pageSize maximum number of rows to return.
+     * @param lastKey  values of the ordering expressions in the last row of the previous page, in the order of
+     *                 addOrder calls. Empty for the first page.
+     * @since 4.3.0
+     */
+    public void setKeysetPage(Matchable pageSize, Matchable... lastKey) {
+        if (pageSize == null) {
+            throw new IllegalArgumentException("Page size can not be null.");
+        }
+        for (Matchable value : lastKey) {
+            if (value == null) {
+                throw new IllegalArgumentException("Key value can not be null.");
+            }
+        }
+        this.limit = pageSize;
+        this.lastKey = Arrays.asList(lastKey.clone());
+        plan = null;
     }
 
     @Override
@@ -138,18 +204,11 @@ public class SelectQuery extends Query implements Matchable {
 
     @Override
     protected void compile(Output output) {
-        Set<TableReference> mentionedTableReferences = findMentionedTableReferences();
-        Set<TableReference> usedTableReferences = findUsedTableReferences();
-        Set<TableReference> missingTableReferences = new LinkedHashSet<>(usedTableReferences);
-        missingTableReferences.removeAll(mentionedTableReferences);
-
-        Set<FromItem> allFromItems = new LinkedHashSet<>(fromItems);
-        allFromItems.addAll(missingTableReferences);
-
-        Set<ResultColumn> resultReferences = findResultReferences();
-        QueryCompiler compiler = new QueryCompiler(output,
-                AliasGenerator.generateAliases(usedTableReferences, TABLE_REFERENCE_ALIAS_ALPHABET),
-                AliasGenerator.generateAliases(resultReferences, RESULT_COLUMN_ALIAS_ALPHABET));
+        Plan plan = getPlan();
+        List<Criteria> allCriterias = plan.criterias;
+        Set<FromItem> allFromItems = plan.fromItems;
+        QueryCompiler compiler = QueryCompiler.withAliases(
+                output, plan.tableReferenceAliases, plan.resultColumnAliases);
 
         compiler.write("SELECT");
         if (distinct) {
@@ -167,47 +226,117 @@ public class SelectQuery extends Query implements Matchable {
             CollectionWriter.writeCollection(compiler, allFromItems, ",", false, true);
         }
 
-        if (!criterias.isEmpty()) {
+        if (!allCriterias.isEmpty()) {
             compiler.write("WHERE");
-            CollectionWriter.writeCollection(compiler, criterias, " AND", false, true);
+            CollectionWriter.writeCollection(compiler, allCriterias, " AND", false, true);
         }
 
         if (!orders.isEmpty()) {
             compiler.write("ORDER BY");
             CollectionWriter.writeCollection(compiler, orders, ",", false, true);
         }
+
+        if (limit != null || offset != null) {
+            output.getSyntax().compileLimit(compiler, limit, offset);
+            compiler.writeln();
+        }
     }
 
     @Override
     protected <S> StatementBuilder<S> createStatementBuilder(StatementCompiler<S> compiler, String query)
             throws SQLException {
-        return compiler.createStatementBuilder(query);
+        return compiler.createSelectStatementBuilder(query);
+    }
+
+    @Override
+    StatementBuilderFactory getStatementBuilderFactory() {
+        return StatementBuilderFactory.SELECT;
     }
 
-    private Set<TableReference> findMentionedTableReferences() {
-        Set<TableReference> references = new LinkedHashSet<>();
-        for (FromItem source : fromItems) {
-            source.collectTableReferences(references);
+    private Plan getPlan() {
+        Plan plan = this.plan;
+        if (plan == null) {
+            plan = createPlan();
+            this.plan = plan;
         }
-        return references;
+        return plan;
     }
 
-    private Set<TableReference> findUsedTableReferences() {
-        Set<TableReference> references = new LinkedHashSet<>();
+    private Plan createPlan() {
+        List<Criteria> allCriterias = new ArrayList<>(criterias.size() + 1);
+        allCriterias.addAll(criterias);
+        if (!lastKey.isEmpty()) {
+            allCriterias.add(createKeysetCriteria());
+        }
+
+        // Collect all references in a single pass over the query parts.
+        Set<TableReference> mentionedTableReferences = new IdentityArraySet<>();
+        Set<TableReference> usedTableReferences = new IdentityArraySet<>();
+        Set<ResultColumn> resultReferences = new IdentityArraySet<>();
+        for (FromItem fromItem : fromItems) {
+            fromItem.collectTableReferences(mentionedTableReferences);
+        }
         for (ResultColumn resultColumn : selection) {
-            resultColumn.collectTableReferences(references);
+            resultColumn.collectTableReferences(usedTableReferences);
+        }
+        for (Criteria criteria : allCriterias) {
+            criteria.collectTableReferences(usedTableReferences);
+        }
+        for (BaseOrder order : orders) {
+            order.collectResultReferences(resultReferences);
         }
-        for (Criteria criteria : criterias) {
-            criteria.collectTableReferences(references);
+
+        Set<FromItem> allFromItems = new IdentityArraySet<>();
+        allFromItems.addAll(fromItems);
+        for (TableReference tableReference : usedTableReferences) {
+            if (!mentionedTableReferences.contains(tableReference)) {
+                allFromItems.add(tableReference);
+            }
         }
-        return references;
+
+        return new Plan(allCriterias, allFromItems,
+                new AliasMap<>(AliasGenerator.generateAliases(usedTableReferences, TABLE_REFERENCE_ALIAS_ALPHABET)),
+                new AliasMap<>(AliasGenerator.generateAliases(resultReferences, RESULT_COLUMN_ALIAS_ALPHABET)));
     }
 
-    private Set<ResultColumn> findResultReferences() {
-        Set<ResultColumn> references = new LinkedHashSet<>();
-        for (BaseOrder order : orders) {
-            order.collectResultReferences(references);
+    private Criteria createKeysetCriteria() {
+        if (lastKey.size() != orders.size()) {
+            throw new IllegalStateException("Keyset page must contain exactly " + orders.size()
+                    + " key values, one per order.");
+        }
+        // (o1 > k1) OR (o1 = k1 AND o2 > k2) OR ... with "<" for descending orders.
+        List<Criteria> alternatives = new ArrayList<>(orders.size());
+        for (int i = 0; i < orders.size(); ++i) {
+            List<Criteria> conditions = new ArrayList<>(i + 1);
+            for (int j = 0; j < i; ++j) {
+                conditions.add(Criteria.equal(orders.get(j).getSelectable(), lastKey.get(j)));
+            }
+            SelectOrder order = orders.get(i);
+            conditions.add(order.isAscending()
+                    ? Criteria.greater(order.getSelectable(), lastKey.get(i))
+                    : Criteria.less(order.getSelectable(), lastKey.get(i)));
+            alternatives.add(conditions.size() == 1 ? conditions.get(0) : Criteria.and(conditions));
+        }
+        return alternatives.size() == 1 ? alternatives.get(0) : Criteria.or(alternatives);
+    }
+
+    /**
+     * Parts of the query derived from its structure: the "WHERE" and "FROM" sections and the alias maps. The plan is
+     * computed on first compilation and reused until the query gets modified.
+     */
+    private static class Plan {
+
+        final List<Criteria> criterias;
+        final Set<FromItem> fromItems;
+        final AliasMap<TableReference> tableReferenceAliases;
+        final AliasMap<ResultColumn> resultColumnAliases;
+
+        Plan(List<Criteria> criterias, Set<FromItem> fromItems, AliasMap<TableReference> tableReferenceAliases,
+             AliasMap<ResultColumn> resultColumnAliases) {
+            this.criterias = criterias;
+            this.fromItems = fromItems;
+            this.tableReferenceAliases = tableReferenceAliases;
+            this.resultColumnAliases = resultColumnAliases;
         }
-        return references;
     }
 }
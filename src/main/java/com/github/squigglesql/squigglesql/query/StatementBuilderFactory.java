@@ -0,0 +1,47 @@
+/*
+ * Copyright 2019-2020 Egor Nepomnyaschih and contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.squigglesql.squigglesql.query;
+
+import com.github.squigglesql.squigglesql.statement.StatementBuilder;
+import com.github.squigglesql.squigglesql.statement.StatementCompiler;
+
+import java.sql.SQLException;
+
+/**
+ * Creates statement builders for compiled queries. Unlike the query itself, the factory doesn't reference the query
+ * graph and the parameter values, so compiled queries can be cached without holding the original query in memory.
+ */
+interface StatementBuilderFactory {
+
+    StatementBuilderFactory DEFAULT = StatementCompiler::createStatementBuilder;
+    StatementBuilderFactory SELECT = StatementCompiler::createSelectStatementBuilder;
+    StatementBuilderFactory INSERT = StatementCompiler::createInsertStatementBuilder;
+
+    <S> StatementBuilder<S> createStatementBuilder(StatementCompiler<S> compiler, String query) throws SQLException;
+
+    static StatementBuilderFactory insert(String[] keyColumnNames) {
+        if (keyColumnNames == null) {
+            return INSERT;
+        }
+        return new StatementBuilderFactory() {
+            @Override
+            public <S> StatementBuilder<S> createStatementBuilder(StatementCompiler<S> compiler, String query)
+                    throws SQLException {
+                return compiler.createInsertStatementBuilder(query, keyColumnNames);
+            }
+        };
+    }
+}
@@ -18,9 +18,11 @@ package com.github.squigglesql.squigglesql.query;
 import com.github.squigglesql.squigglesql.Matchable;
 import com.github.squigglesql.squigglesql.Output;
 import com.github.squigglesql.squigglesql.QueryCompiler;
+import com.github.squigglesql.squigglesql.Selectable;
 import com.github.squigglesql.squigglesql.TableColumn;
 import com.github.squigglesql.squigglesql.TableReference;
 import com.github.squigglesql.squigglesql.alias.AliasGenerator;
+import com.github.squigglesql.squigglesql.alias.AliasMap;
 import com.github.squigglesql.squigglesql.criteria.Criteria;
 import com.github.squigglesql.squigglesql.statement.StatementBuilder;
 import com.github.squigglesql.squigglesql.statement.StatementCompiler;
@@ -28,7 +30,6 @@ import com.github.squigglesql.squigglesql.util.CollectionWriter;
 
 import java.sql.SQLException;
 import java.util.ArrayList;
-import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
 
@@ -40,6 +41,9 @@ public class UpdateQuery extends Query {
     private final TableReference tableReference;
     private final List<Assignment> assignments = new ArrayList<>();
     private final List<Criteria> criterias = new ArrayList<>();
+    private final ReturningClause returning = new ReturningClause();
+
+    private Plan plan;
 
     /**
      * Creates an update query.
@@ -76,6 +80,21 @@ public class UpdateQuery extends Query {
             throw new IllegalArgumentException("Criteria can not be null.");
         }
         this.criterias.add(criteria);
+        plan = null;
+    }
+
+    /**
+     * Adds a column to return from the updated rows, so they can be read without a follow-up selection query. Execute
+     * the query with {@link com.github.squigglesql.squigglesql.util.JdbcUtils#selectAll} or
+     * {@link com.github.squigglesql.squigglesql.util.JdbcUtils#selectOne} method then. The statement gets compiled
+     * with {@link com.github.squigglesql.squigglesql.syntax.AbstractSqlSyntax#compileReturning} method.
+     *
+     * @param selectable expression to return, referring to the updated table reference only.
+     * @return result column allowing to read the {@link java.sql.ResultSet}.
+     * @since 4.3.0
+     */
+    public ResultColumn addToReturning(Selectable selectable) {
+        return returning.add(selectable);
     }
 
     /**
@@ -91,17 +110,23 @@ public class UpdateQuery extends Query {
             throw new IllegalStateException("No values specified for updating.");
         }
 
-        Set<TableReference> tableReferences = findTableReferences();
-        QueryCompiler queryCompiler = new QueryCompiler(output,
-                AliasGenerator.generateAliases(tableReferences, TABLE_REFERENCE_ALIAS_ALPHABET));
+        if (returning.isEmpty()) {
+            compileUpdate(QueryCompiler.withAliases(output, getPlan().tableReferenceAliases, null));
+        } else {
+            returning.checkTableReference(tableReference);
+            returning.compile(output, getPlan().tableReferenceAliases, this::compileUpdate, tableReference, false);
+        }
+    }
+
+    private void compileUpdate(QueryCompiler queryCompiler) {
+        Plan plan = getPlan();
 
         queryCompiler.write("UPDATE ").write(tableReference).write(" SET");
         CollectionWriter.writeCollection(queryCompiler, assignments, ",", false, true);
 
-        tableReferences.remove(tableReference);
-        if (!tableReferences.isEmpty()) {
+        if (!plan.fromItems.isEmpty()) {
             queryCompiler.write("FROM");
-            CollectionWriter.writeCollection(queryCompiler, tableReferences, ",", false, true);
+            CollectionWriter.writeCollection(queryCompiler, plan.fromItems, ",", false, true);
         }
 
         if (criterias.size() > 0) {
@@ -113,15 +138,49 @@ public class UpdateQuery extends Query {
     @Override
     protected <S> StatementBuilder<S> createStatementBuilder(StatementCompiler<S> compiler, String query)
             throws SQLException {
-        return compiler.createStatementBuilder(query);
+        return getStatementBuilderFactory().createStatementBuilder(compiler, query);
+    }
+
+    @Override
+    StatementBuilderFactory getStatementBuilderFactory() {
+        return returning.isEmpty() ? StatementBuilderFactory.DEFAULT : StatementBuilderFactory.SELECT;
+    }
+
+    private Plan getPlan() {
+        Plan plan = this.plan;
+        if (plan == null) {
+            Set<TableReference> tableReferences = findTableReferences();
+            AliasMap<TableReference> aliases = new AliasMap<>(
+                    AliasGenerator.generateAliases(tableReferences, TABLE_REFERENCE_ALIAS_ALPHABET));
+            List<TableReference> fromItems = new ArrayList<>(aliases.keySet());
+            fromItems.remove(tableReference);
+            plan = new Plan(aliases, fromItems);
+            this.plan = plan;
+        }
+        return plan;
     }
 
     private Set<TableReference> findTableReferences() {
-        Set<TableReference> tables = new LinkedHashSet<>();
+        Set<TableReference> tables = new IdentityArraySet<>();
         tables.add(tableReference);
         for (Criteria criteria : criterias) {
             criteria.collectTableReferences(tables);
         }
         return tables;
     }
+
+    /**
+     * Parts of the query derived from its criterias: the alias map and the "FROM" section. The plan is computed on
+     * first compilation and reused until the query gets modified.
+     */
+    private static class Plan {
+
+        final AliasMap<TableReference> tableReferenceAliases;
+        final List<TableReference> fromItems;
+
+        Plan(AliasMap<TableReference> tableReferenceAliases, List<TableReference> fromItems) {
+            this.tableReferenceAliases = tableReferenceAliases;
+            this.fromItems = fromItems;
+        }
+    }
 }
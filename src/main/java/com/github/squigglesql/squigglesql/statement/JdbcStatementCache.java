@@ -0,0 +1,370 @@
+/*
+ * Copyright 2019-2020 Egor Nepomnyaschih and contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.squigglesql.squigglesql.statement;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Client-side LRU cache of prepared statements of a single JDBC connection. Use the connection returned by
+ * {@link JdbcStatementCache#getConnection()} method instead of the original one, e.g. with
+ * {@link JdbcStatementCompiler} or {@link com.github.squigglesql.squigglesql.util.JdbcUtils} methods, and every
+ * prepareStatement call with the same SQL code and the same statement options will reuse a cached statement instead
+ * of preparing a new one.
+ * <p>
+ * Closing a cached statement closes its result sets and returns it to the cache with pending batch, parameters,
+ * warnings, fetch size, fetch direction, row and field size limits and query timeout reset. Statements with a
+ * modified cursor name, escape processing, poolability or close-on-completion flag get closed instead. If the statement
+ * is still in use at the moment of a repeated prepareStatement call, e.g. because its result set is being read, a new
+ * uncached statement gets prepared. Closing the connection or the cache closes all cached statements.
+ *
+ * @since 4.3.0
+ */
+public class JdbcStatementCache implements AutoCloseable {
+
+    // Statement setters which don't have getters to restore the initial state with.
+    private static final Set<String> UNRESTORABLE_METHODS = new HashSet<>(Arrays.asList(
+            "setCursorName", "setEscapeProcessing", "setPoolable", "closeOnCompletion"));
+
+    private final Connection connection;
+    private final Connection proxy;
+    private final int maxSize;
+    private final Map<List<Object>, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    private long hitCount = 0;
+    private long missCount = 0;
+    private boolean closed = false;
+
+    /**
+     * Creates a statement cache.
+     *
+     * @param connection JDBC connection to prepare the statements with.
+     * @param maxSize    maximum number of cached statements. Least recently used statements get closed beyond that.
+     */
+    public JdbcStatementCache(Connection connection, int maxSize) {
+        if (connection == null) {
+            throw new IllegalArgumentException("Connection can not be null.");
+        }
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("Cache size must be positive.");
+        }
+        this.connection = connection;
+        this.maxSize = maxSize;
+        this.proxy = (Connection) Proxy.newProxyInstance(JdbcStatementCache.class.getClassLoader(),
+                new Class<?>[]{Connection.class}, new ConnectionHandler());
+    }
+
+    /**
+     * @return connection preparing the statements via the cache. Closing it closes the original connection as well.
+     */
+    public Connection getConnection() {
+        return proxy;
+    }
+
+    /**
+     * @return number of prepareStatement calls which reused a cached statement.
+     */
+    public synchronized long getHitCount() {
+        return hitCount;
+    }
+
+    /**
+     * @return number of prepareStatement calls which prepared a new statement.
+     */
+    public synchronized long getMissCount() {
+        return missCount;
+    }
+
+    /**
+     * @return number of cached statements.
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * Closes all cached statements. The statements being in use get closed as soon as they are released.
+     *
+     * @throws SQLException if JDBC driver throws the exception.
+     */
+    public synchronized void clear() throws SQLException {
+        List<Entry> evicted = new ArrayList<>(entries.values());
+        entries.clear();
+        evict(evicted);
+    }
+
+    /**
+     * Closes all cached statements and stops caching new ones. Doesn't close the connection.
+     *
+     * @throws SQLException if JDBC driver throws the exception.
+     */
+    @Override
+    public synchronized void close() throws SQLException {
+        closed = true;
+        clear();
+    }
+
+    private synchronized PreparedStatement prepare(Method method, Object[] args) throws Throwable {
+        List<Object> key = createKey(args);
+        Entry entry = entries.get(key);
+        if (entry != null && !entry.inUse) {
+            if (!entry.statement.isClosed()) {
+                ++hitCount;
+                return entry.checkOut();
+            }
+            entries.remove(key).evicted = true;
+            entry = null;
+        }
+        ++missCount;
+        PreparedStatement statement = (PreparedStatement) invoke(connection, method, args);
+        if (closed || entry != null) {
+            // The cached statement is in use, so the new one doesn't get cached.
+            return statement;
+        }
+        entry = new Entry(statement);
+        entries.put(key, entry);
+        List<Entry> evicted = new ArrayList<>();
+        Iterator<Entry> iterator = entries.values().iterator();
+        while (entries.size() - evicted.size() > maxSize) {
+            evicted.add(iterator.next());
+            iterator.remove();
+        }
+        evict(evicted);
+        return entry.checkOut();
+    }
+
+    private synchronized void release(Entry entry, List<ResultSet> resultSets, boolean modified)
+            throws SQLException {
+        entry.inUse = false;
+        if (!closed && !entry.evicted && !modified) {
+            try {
+                for (ResultSet resultSet : resultSets) {
+                    resultSet.close();
+                }
+                entry.reset();
+                return;
+            } catch (SQLException e) {
+                discard(entry);
+                try {
+                    entry.statement.close();
+                } catch (SQLException suppressed) {
+                    e.addSuppressed(suppressed);
+                }
+                throw e;
+            }
+        }
+        discard(entry);
+        entry.statement.close();
+    }
+
+    private void discard(Entry entry) {
+        if (!entry.evicted) {
+            entries.values().remove(entry);
+            entry.evicted = true;
+        }
+    }
+
+    private static void evict(List<Entry> entries) throws SQLException {
+        SQLException exception = null;
+        for (Entry entry : entries) {
+            entry.evicted = true;
+            if (entry.inUse) {
+                continue;
+            }
+            try {
+                entry.statement.close();
+            } catch (SQLException e) {
+                if (exception == null) {
+                    exception = e;
+                } else {
+                    exception.addSuppressed(e);
+                }
+            }
+        }
+        if (exception != null) {
+            throw exception;
+        }
+    }
+
+    private static List<Object> createKey(Object[] args) {
+        // prepareStatement overloads differ by the number and the types of arguments, so the argument list is unique.
+        List<Object> key = new ArrayList<>(args.length);
+        for (Object arg : args) {
+            if (arg instanceof int[]) {
+                int[] indexes = (int[]) arg;
+                List<Integer> list = new ArrayList<>(indexes.length);
+                for (int index : indexes) {
+                    list.add(index);
+                }
+                key.add(list);
+            } else if (arg instanceof String[]) {
+                key.add(Arrays.asList((String[]) arg));
+            } else {
+                key.add(arg);
+            }
+        }
+        return key;
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    private class ConnectionHandler implements InvocationHandler {
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "prepareStatement":
+                    return prepare(method, args);
+                case "close":
+                    try {
+                        clear();
+                    } finally {
+                        connection.close();
+                    }
+                    return null;
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                default:
+                    return JdbcStatementCache.invoke(connection, method, args);
+            }
+        }
+    }
+
+    private class Entry {
+
+        final PreparedStatement statement;
+        final int fetchSize;
+        final int fetchDirection;
+        final int maxRows;
+        final int maxFieldSize;
+        final int queryTimeout;
+        boolean inUse = false;
+        boolean evicted = false;
+
+        Entry(PreparedStatement statement) throws SQLException {
+            this.statement = statement;
+            this.fetchSize = statement.getFetchSize();
+            this.fetchDirection = statement.getFetchDirection();
+            this.maxRows = statement.getMaxRows();
+            this.maxFieldSize = statement.getMaxFieldSize();
+            this.queryTimeout = statement.getQueryTimeout();
+        }
+
+        void reset() throws SQLException {
+            statement.clearBatch();
+            statement.clearParameters();
+            statement.clearWarnings();
+            // Some drivers reject fetch size greater than the row limit, so the limit goes first.
+            statement.setMaxRows(maxRows);
+            statement.setFetchSize(fetchSize);
+            statement.setFetchDirection(fetchDirection);
+            statement.setMaxFieldSize(maxFieldSize);
+            statement.setQueryTimeout(queryTimeout);
+        }
+
+        PreparedStatement checkOut() {
+            inUse = true;
+            return (PreparedStatement) Proxy.newProxyInstance(JdbcStatementCache.class.getClassLoader(),
+                    new Class<?>[]{PreparedStatement.class}, new StatementHandler(this));
+        }
+    }
+
+    private class StatementHandler implements InvocationHandler {
+
+        private final Entry entry;
+        private final List<ResultSet> resultSets = new ArrayList<>();
+        private boolean released = false;
+        private boolean modified = false;
+
+        StatementHandler(Entry entry) {
+            this.entry = entry;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close":
+                    if (!released) {
+                        released = true;
+                        release(entry, resultSets, modified);
+                    }
+                    return null;
+                case "isClosed":
+                    return released || entry.statement.isClosed();
+                case "getConnection":
+                    return JdbcStatementCache.this.proxy;
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                default:
+                    if (released) {
+                        throw new SQLException("Statement is closed.");
+                    }
+                    if (UNRESTORABLE_METHODS.contains(method.getName())) {
+                        modified = true;
+                    }
+                    Object result = JdbcStatementCache.invoke(entry.statement, method, args);
+                    if (result instanceof ResultSet) {
+                        track((ResultSet) result);
+                    }
+                    return result;
+            }
+        }
+
+        /**
+         * Remembers a result set to close it on release. JDBC closes the current result set when the statement gets
+         * executed again, so the closed result sets are pruned to keep the list short for long-living statements.
+         */
+        private void track(ResultSet resultSet) throws SQLException {
+            boolean tracked = false;
+            Iterator<ResultSet> iterator = resultSets.iterator();
+            while (iterator.hasNext()) {
+                ResultSet existing = iterator.next();
+                if (existing == resultSet) {
+                    tracked = true;
+                } else if (existing.isClosed()) {
+                    iterator.remove();
+                }
+            }
+            if (!tracked) {
+                resultSets.add(resultSet);
+            }
+        }
+    }
+}
@@ -23,6 +23,7 @@ import java.sql.Array;
 import java.sql.Connection;
 import java.sql.Date;
 import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.sql.Time;
@@ -35,6 +36,10 @@ import java.util.Calendar;
 public class JdbcStatementCompiler implements StatementCompiler<PreparedStatement> {
 
     private final Connection connection;
+    private final int resultSetType;
+    private final int resultSetConcurrency;
+    private final int fetchSize;
+    private final boolean resultSetHints;
 
     /**
      * Creates a JDBC statement compiler.
@@ -42,7 +47,47 @@ public class JdbcStatementCompiler implements StatementCompiler<PreparedStatemen
      * @param connection JDBC connection to create a statement with.
      */
     public JdbcStatementCompiler(Connection connection) {
+        this(connection, 0);
+    }
+
+    /**
+     * Creates a JDBC statement compiler producing selection statements with the specified fetch size. With a positive
+     * fetch size, the JDBC driver may read large result sets in portions instead of buffering them entirely. The fetch
+     * size is not applied to statements without a result set. <b>Note:</b> PostgreSQL JDBC driver uses a cursor only
+     * if auto-commit is disabled, and MySQL JDBC driver requires useCursorFetch=true connection property.
+     *
+     * @param connection JDBC connection to create a statement with.
+     * @param fetchSize  number of rows to fetch from the database at once, or 0 to use the driver default.
+     * @since 4.3.0
+     */
+    public JdbcStatementCompiler(Connection connection, int fetchSize) {
+        this(connection, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY, fetchSize, false);
+    }
+
+    /**
+     * Creates a JDBC statement compiler producing selection statements with the specified result set hints. The hints
+     * are not applied to statements without a result set.
+     *
+     * @param connection           JDBC connection to create a statement with.
+     * @param resultSetType        result set type, e.g. {@link ResultSet#TYPE_FORWARD_ONLY}.
+     * @param resultSetConcurrency result set concurrency, e.g. {@link ResultSet#CONCUR_READ_ONLY}.
+     * @param fetchSize            number of rows to fetch from the database at once, or 0 to use the driver default.
+     * @since 4.3.0
+     */
+    public JdbcStatementCompiler(Connection connection, int resultSetType, int resultSetConcurrency, int fetchSize) {
+        this(connection, resultSetType, resultSetConcurrency, fetchSize, true);
+    }
+
+    private JdbcStatementCompiler(Connection connection, int resultSetType, int resultSetConcurrency, int fetchSize,
+                                  boolean resultSetHints) {
+        if (fetchSize < 0) {
+            throw new IllegalArgumentException("Fetch size can not be negative.");
+        }
         this.connection = connection;
+        this.resultSetType = resultSetType;
+        this.resultSetConcurrency = resultSetConcurrency;
+        this.fetchSize = fetchSize;
+        this.resultSetHints = resultSetHints;
     }
 
     @Override
@@ -55,11 +100,41 @@ public class JdbcStatementCompiler implements StatementCompiler<PreparedStatemen
         return new Builder(connection.prepareStatement(query));
     }
 
+    @Override
+    public StatementBuilder<PreparedStatement> createSelectStatementBuilder(String query) throws SQLException {
+        PreparedStatement statement = resultSetHints
+                ? connection.prepareStatement(query, resultSetType, resultSetConcurrency)
+                : connection.prepareStatement(query);
+        if (fetchSize != 0) {
+            statement.setFetchSize(fetchSize);
+        }
+        return new Builder(statement);
+    }
+
     @Override
     public StatementBuilder<PreparedStatement> createInsertStatementBuilder(String query) throws SQLException {
         return new Builder(connection.prepareStatement(query, Statement.RETURN_GENERATED_KEYS));
     }
 
+    @Override
+    public StatementBuilder<PreparedStatement> createInsertStatementBuilder(String query, String[] keyColumnNames)
+            throws SQLException {
+        return new Builder(connection.prepareStatement(query, keyColumnNames));
+    }
+
+    /**
+     * Creates a statement builder over an existing statement. The builder binds parameters starting from index 1,
+     * so you can bind a new set of parameters to the same statement, e.g. before calling
+     * {@link PreparedStatement#addBatch()}.
+     *
+     * @param statement statement to bind the parameters to.
+     * @return Statement builder.
+     * @since 4.3.0
+     */
+    public static StatementBuilder<PreparedStatement> wrap(PreparedStatement statement) {
+        return new Builder(statement);
+    }
+
     private static class Builder implements StatementBuilder<PreparedStatement> {
 
         private final PreparedStatement statement;
@@ -80,6 +155,11 @@ public class JdbcStatementCompiler implements StatementCompiler<PreparedStatemen
             statement.setNull(++lastIndex, sqlType);
         }
 
+        @Override
+        public void addObject(Object value) throws SQLException {
+            statement.setObject(++lastIndex, value);
+        }
+
         @Override
         public void addBoolean(boolean value) throws SQLException {
             statement.setBoolean(++lastIndex, value);
@@ -146,6 +226,11 @@ public class JdbcStatementCompiler implements StatementCompiler<PreparedStatemen
             statement.setArray(++lastIndex, value);
         }
 
+        @Override
+        public void addArray(String elementType, Object[] elements) throws SQLException {
+            statement.setArray(++lastIndex, statement.getConnection().createArrayOf(elementType, elements));
+        }
+
         @Override
         public void addBytes(byte[] value) throws SQLException {
             statement.setBytes(++lastIndex, value);
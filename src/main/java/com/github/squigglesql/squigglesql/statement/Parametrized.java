@@ -19,6 +19,7 @@ import java.math.BigDecimal;
 import java.sql.Array;
 import java.sql.Date;
 import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
 import java.sql.Time;
 import java.sql.Timestamp;
 import java.util.Calendar;
@@ -36,6 +37,18 @@ public interface Parametrized {
      */
     void addNull(int sqlType) throws SQLException;
 
+    /**
+     * Delegate of {@link java.sql.PreparedStatement#setObject(int, Object)} method. Default implementation throws
+     * {@link SQLFeatureNotSupportedException}.
+     *
+     * @param value JDBC statement method argument.
+     * @throws SQLException if JDBC throws the exception.
+     * @since 4.3.0
+     */
+    default void addObject(Object value) throws SQLException {
+        throw new SQLFeatureNotSupportedException("Object parameters are not supported.");
+    }
+
     /**
      * Delegate of {@link java.sql.PreparedStatement#setBoolean(int, boolean)} method.
      *
@@ -143,6 +156,20 @@ public interface Parametrized {
      */
     void addArray(Array value) throws SQLException;
 
+    /**
+     * Delegate of {@link java.sql.PreparedStatement#setArray(int, Array)} method with an array created by
+     * {@link java.sql.Connection#createArrayOf(String, Object[])} method. Default implementation throws
+     * {@link SQLFeatureNotSupportedException}.
+     *
+     * @param elementType SQL type name of the array elements, e.g. "integer".
+     * @param elements    array elements.
+     * @throws SQLException if JDBC throws the exception.
+     * @since 4.3.0
+     */
+    default void addArray(String elementType, Object[] elements) throws SQLException {
+        throw new SQLFeatureNotSupportedException("Array parameters are not supported.");
+    }
+
     /**
      * Delegate of {@link java.sql.PreparedStatement#setBytes(int, byte[])} method.
      *
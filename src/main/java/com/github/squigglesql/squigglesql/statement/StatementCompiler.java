@@ -46,6 +46,19 @@ public interface StatementCompiler<S> {
      */
     StatementBuilder<S> createStatementBuilder(String query) throws SQLException;
 
+    /**
+     * Creates a new statement builder to compile a query returning a result set, e.g. a selection query. Default
+     * implementation delegates to {@link StatementCompiler#createStatementBuilder(String)}.
+     *
+     * @param query SQL query to compile.
+     * @return Statement builder.
+     * @throws SQLException if JDBC driver throws the exception during statement preparation.
+     * @since 4.3.0
+     */
+    default StatementBuilder<S> createSelectStatementBuilder(String query) throws SQLException {
+        return createStatementBuilder(query);
+    }
+
     /**
      * Creates a new statement builder to compile an insertion query.
      *
@@ -54,4 +67,20 @@ public interface StatementCompiler<S> {
      * @throws SQLException if JDBC driver throws the exception during statement preparation.
      */
     StatementBuilder<S> createInsertStatementBuilder(String query) throws SQLException;
+
+    /**
+     * Creates a new statement builder to compile an insertion query returning the specified generated key columns
+     * only, so the database doesn't send the other columns of the inserted rows back. Default implementation ignores
+     * the column names and delegates to {@link StatementCompiler#createInsertStatementBuilder(String)}.
+     *
+     * @param query          SQL query to compile.
+     * @param keyColumnNames names of the generated key columns to return.
+     * @return Statement builder.
+     * @throws SQLException if JDBC driver throws the exception during statement preparation.
+     * @since 4.3.0
+     */
+    default StatementBuilder<S> createInsertStatementBuilder(String query, String[] keyColumnNames)
+            throws SQLException {
+        return createInsertStatementBuilder(query);
+    }
 }
@@ -15,9 +15,16 @@
  */
 package com.github.squigglesql.squigglesql.syntax;
 
+import com.github.squigglesql.squigglesql.Compilable;
 import com.github.squigglesql.squigglesql.Matchable;
 import com.github.squigglesql.squigglesql.QueryCompiler;
+import com.github.squigglesql.squigglesql.Table;
+import com.github.squigglesql.squigglesql.TableColumn;
 import com.github.squigglesql.squigglesql.TableReference;
+import com.github.squigglesql.squigglesql.query.ResultColumn;
+import com.github.squigglesql.squigglesql.util.CollectionWriter;
+
+import java.util.List;
 
 /**
  * Abstract SQL syntax. Describes database-specific SQL features necessary to compile a query. You may use
@@ -92,4 +99,90 @@ public interface AbstractSqlSyntax {
      * @since 4.2.0
      */
     void compileDeleteFrom(QueryCompiler compiler, TableReference tableReference);
+
+    /**
+     * Compiles "value IN (...elements)" criteria for a list of plain Java values. Databases supporting arrays bind
+     * all elements as a single array parameter, so the SQL code doesn't depend on the number of elements. Other
+     * databases fall back to IN lists with one parameter per element, split into chunks joined with "OR". Default
+     * implementation writes the IN lists.
+     *
+     * @param compiler    compiler to compile the query with.
+     * @param value       value to match.
+     * @param elementType SQL type name of the elements, e.g. "integer".
+     * @param elements    elements to match the value against.
+     * @since 4.3.0
+     */
+    default void compileInArray(QueryCompiler compiler, Matchable value, String elementType, Object[] elements) {
+        CommonSqlSyntax.compileInList(compiler, value, elements);
+    }
+
+    /**
+     * Compiles row limit and offset clauses of a selection query, e.g. "LIMIT 10 OFFSET 20". The clauses get appended
+     * after "ORDER BY" section. Default implementation writes "LIMIT" and "OFFSET" clauses.
+     *
+     * @param compiler compiler to compile the query with.
+     * @param limit    maximum number of rows to return, or null if not limited.
+     * @param offset   number of rows to skip, or null to skip none. At least one of limit and offset is not null.
+     * @since 4.3.0
+     */
+    default void compileLimit(QueryCompiler compiler, Matchable limit, Matchable offset) {
+        if (limit != null) {
+            compiler.write("LIMIT ").write(limit);
+        }
+        if (offset != null) {
+            compiler.write(limit != null ? " OFFSET " : "OFFSET ").write(offset);
+        }
+    }
+
+    /**
+     * Compiles an insertion query resolving unique key conflicts, e.g. "INSERT ... ON CONFLICT ... DO UPDATE" in
+     * PostgreSQL, "INSERT ... ON DUPLICATE KEY UPDATE" in MySQL or "MERGE" statement in other databases. The rows
+     * which don't conflict with the existing ones get inserted. The existing rows get their update columns assigned
+     * from the conflicting rows. Default implementation writes the standard "MERGE" statement.
+     *
+     * @param compiler      compiler to compile the query with.
+     * @param table         table to insert rows to.
+     * @param columns       columns to insert values to.
+     * @param rows          rows to insert, one value per column.
+     * @param keyColumns    columns of the unique key to detect conflicts by. A subset of the inserted columns.
+     * @param updateColumns columns to update in the existing rows. A subset of the inserted columns. If empty, the
+     *                      existing rows stay as is.
+     * @since 4.3.0
+     */
+    default void compileUpsert(QueryCompiler compiler, Table table, List<TableColumn> columns,
+                               List<? extends List<? extends Matchable>> rows, List<TableColumn> keyColumns,
+                               List<TableColumn> updateColumns) {
+        CommonSqlSyntax.compileMerge(this, compiler, table, columns, rows, keyColumns, updateColumns, true);
+    }
+
+    /**
+     * Compiles a data modification statement returning the modified rows, e.g. "UPDATE ... RETURNING ..." in
+     * PostgreSQL or "SELECT ... FROM FINAL TABLE (UPDATE ...)" in other databases. Default implementation writes the
+     * data change delta table, introduced in DB2 and also supported by H2.
+     *
+     * @param compiler       compiler to compile the query with.
+     * @param statement      data modification statement.
+     * @param tableReference reference to the modified table the returned columns refer to.
+     * @param returning      columns to return.
+     * @param deleted        the statement deletes the rows, so their values before the statement must be returned.
+     * @throws com.github.squigglesql.squigglesql.exception.QueryCompilationException if the database doesn't
+     *                                                                                support returning the rows.
+     * @since 4.3.0
+     */
+    default void compileReturning(QueryCompiler compiler, Compilable statement, TableReference tableReference,
+                                  List<ResultColumn> returning, boolean deleted) {
+        compiler.write("SELECT");
+        CollectionWriter.writeCollection(compiler, returning, ",", false, true);
+        compiler.writeln(deleted ? "FROM OLD TABLE (" : "FROM FINAL TABLE (").indent();
+        statement.compile(compiler);
+        compiler.writeln().unindent().write(") ").quote(compiler.getAlias(tableReference), getTableReferenceQuote());
+    }
+
+    /**
+     * @return maximum number of parameters the database accepts in a single statement. Not limited by default.
+     * @since 4.3.0
+     */
+    default int getMaxParameterCount() {
+        return Integer.MAX_VALUE;
+    }
 }
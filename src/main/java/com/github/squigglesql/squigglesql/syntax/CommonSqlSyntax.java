@@ -17,10 +17,19 @@ package com.github.squigglesql.squigglesql.syntax;
 
 import com.github.squigglesql.squigglesql.Matchable;
 import com.github.squigglesql.squigglesql.QueryCompiler;
+import com.github.squigglesql.squigglesql.Table;
+import com.github.squigglesql.squigglesql.TableColumn;
 import com.github.squigglesql.squigglesql.TableReference;
+import com.github.squigglesql.squigglesql.parameter.Parameter;
+import com.github.squigglesql.squigglesql.util.CollectionWriter;
+
+import java.util.List;
 
 abstract class CommonSqlSyntax implements AbstractSqlSyntax {
 
+    // Oracle limit, also keeps the statements reasonably small for other databases.
+    static final int IN_CHUNK_SIZE = 1000;
+
     abstract char getIdentifierQuote();
 
     @Override
@@ -67,4 +76,123 @@ abstract class CommonSqlSyntax implements AbstractSqlSyntax {
     public void compileDeleteFrom(QueryCompiler compiler, TableReference tableReference) {
         compiler.writeln("DELETE FROM").indent().writeln(tableReference).unindent();
     }
+
+    @Override
+    public void compileUpsert(QueryCompiler compiler, Table table, List<TableColumn> columns,
+                              List<? extends List<? extends Matchable>> rows, List<TableColumn> keyColumns,
+                              List<TableColumn> updateColumns) {
+        compileMerge(this, compiler, table, columns, rows, keyColumns, updateColumns, supportsDerivedColumnList());
+    }
+
+    /**
+     * @return true if the database supports column lists of derived tables, e.g. "(VALUES (1, 2)) t(a, b)". Otherwise,
+     * the columns of VALUES table are referred by their default names C1, C2 etc.
+     */
+    boolean supportsDerivedColumnList() {
+        return true;
+    }
+
+    static void compileInsertValues(QueryCompiler compiler, Table table, List<TableColumn> columns,
+                                    List<? extends List<? extends Matchable>> rows) {
+        compiler.write("INSERT INTO ").write(table);
+        CollectionWriter.writeCollection(compiler, columns, ", ", true, false);
+        compiler.write(" VALUES ");
+        for (int i = 0; i < rows.size(); ++i) {
+            if (i != 0) {
+                compiler.write(", ");
+            }
+            CollectionWriter.writeCollection(compiler, rows.get(i), ", ", true, false);
+        }
+    }
+
+    static void compileInList(QueryCompiler compiler, Matchable value, Object[] elements) {
+        if (elements.length == 0) {
+            compiler.write("0 = 1");
+            return;
+        }
+        boolean chunked = elements.length > IN_CHUNK_SIZE;
+        if (chunked) {
+            compiler.write('(');
+        }
+        for (int start = 0; start < elements.length; start += IN_CHUNK_SIZE) {
+            if (start != 0) {
+                compiler.write(" OR ");
+            }
+            compiler.write(value).write(" IN (");
+            int end = Math.min(elements.length, start + IN_CHUNK_SIZE);
+            for (int i = start; i < end; ++i) {
+                if (i != start) {
+                    compiler.write(", ");
+                }
+                compiler.write(Parameter.ofObject(elements[i]));
+            }
+            compiler.write(')');
+        }
+        if (chunked) {
+            compiler.write(')');
+        }
+    }
+
+    static void compileMerge(AbstractSqlSyntax syntax, QueryCompiler compiler, Table table, List<TableColumn> columns,
+                             List<? extends List<? extends Matchable>> rows, List<TableColumn> keyColumns,
+                             List<TableColumn> updateColumns, boolean derivedColumnList) {
+        // SQL:2003 standard syntax.
+        compiler.write("MERGE INTO ").write(table).write(" USING (VALUES ");
+        for (int i = 0; i < rows.size(); ++i) {
+            if (i != 0) {
+                compiler.write(", ");
+            }
+            CollectionWriter.writeCollection(compiler, rows.get(i), ", ", true, false);
+        }
+        compiler.write(") ");
+        writeSourceAlias(syntax, compiler);
+        if (derivedColumnList) {
+            CollectionWriter.writeCollection(compiler, columns, ", ", true, false);
+        }
+        compiler.write(" ON ");
+        for (int i = 0; i < keyColumns.size(); ++i) {
+            if (i != 0) {
+                compiler.write(" AND ");
+            }
+            TableColumn column = keyColumns.get(i);
+            compiler.write(table).write('.').write(column).write(" = ");
+            writeSourceColumn(syntax, compiler, columns, column, derivedColumnList);
+        }
+        if (!updateColumns.isEmpty()) {
+            compiler.write(" WHEN MATCHED THEN UPDATE SET ");
+            for (int i = 0; i < updateColumns.size(); ++i) {
+                if (i != 0) {
+                    compiler.write(", ");
+                }
+                TableColumn column = updateColumns.get(i);
+                compiler.write(column).write(" = ");
+                writeSourceColumn(syntax, compiler, columns, column, derivedColumnList);
+            }
+        }
+        compiler.write(" WHEN NOT MATCHED THEN INSERT");
+        CollectionWriter.writeCollection(compiler, columns, ", ", true, false);
+        compiler.write(" VALUES (");
+        for (int i = 0; i < columns.size(); ++i) {
+            if (i != 0) {
+                compiler.write(", ");
+            }
+            writeSourceColumn(syntax, compiler, columns, columns.get(i), derivedColumnList);
+        }
+        compiler.write(')');
+    }
+
+    private static void writeSourceAlias(AbstractSqlSyntax syntax, QueryCompiler compiler) {
+        compiler.quote("excluded", syntax.getTableReferenceQuote());
+    }
+
+    private static void writeSourceColumn(AbstractSqlSyntax syntax, QueryCompiler compiler, List<TableColumn> columns,
+                                          TableColumn column, boolean derivedColumnList) {
+        writeSourceAlias(syntax, compiler);
+        compiler.write('.');
+        if (derivedColumnList) {
+            compiler.write(column);
+        } else {
+            compiler.quote("C" + (columns.indexOf(column) + 1), syntax.getColumnQuote());
+        }
+    }
 }
@@ -15,6 +15,7 @@
  */
 package com.github.squigglesql.squigglesql.syntax;
 
+import com.github.squigglesql.squigglesql.Matchable;
 import com.github.squigglesql.squigglesql.QueryCompiler;
 
 class DefaultSqlSyntax extends CommonSqlSyntax {
@@ -27,4 +28,15 @@ class DefaultSqlSyntax extends CommonSqlSyntax {
     @Override
     public void compileEmptyInsert(QueryCompiler compiler) {
     }
+
+    @Override
+    public void compileLimit(QueryCompiler compiler, Matchable limit, Matchable offset) {
+        // SQL:2008 standard syntax.
+        if (offset != null) {
+            compiler.write("OFFSET ").write(offset).write(" ROWS");
+        }
+        if (limit != null) {
+            compiler.write(offset != null ? " FETCH FIRST " : "FETCH FIRST ").write(limit).write(" ROWS ONLY");
+        }
+    }
 }
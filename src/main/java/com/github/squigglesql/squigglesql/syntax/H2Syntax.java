@@ -15,7 +15,9 @@
  */
 package com.github.squigglesql.squigglesql.syntax;
 
+import com.github.squigglesql.squigglesql.Matchable;
 import com.github.squigglesql.squigglesql.QueryCompiler;
+import com.github.squigglesql.squigglesql.parameter.Parameter;
 
 class H2Syntax extends CommonSqlSyntax {
 
@@ -28,4 +30,14 @@ class H2Syntax extends CommonSqlSyntax {
     public void compileEmptyInsert(QueryCompiler compiler) {
         compiler.write(" () VALUES ()");
     }
+
+    @Override
+    public void compileInArray(QueryCompiler compiler, Matchable value, String elementType, Object[] elements) {
+        compiler.write(value).write(" = ANY(").write(Parameter.ofArray(elementType, elements)).write(')');
+    }
+
+    @Override
+    boolean supportsDerivedColumnList() {
+        return false;
+    }
 }
@@ -15,9 +15,16 @@
  */
 package com.github.squigglesql.squigglesql.syntax;
 
+import com.github.squigglesql.squigglesql.Compilable;
 import com.github.squigglesql.squigglesql.Matchable;
 import com.github.squigglesql.squigglesql.QueryCompiler;
+import com.github.squigglesql.squigglesql.Table;
+import com.github.squigglesql.squigglesql.TableColumn;
 import com.github.squigglesql.squigglesql.TableReference;
+import com.github.squigglesql.squigglesql.exception.QueryCompilationException;
+import com.github.squigglesql.squigglesql.query.ResultColumn;
+
+import java.util.List;
 
 class MySqlSyntax extends CommonSqlSyntax {
 
@@ -31,6 +38,52 @@ class MySqlSyntax extends CommonSqlSyntax {
         compiler.write(" () VALUES ()");
     }
 
+    @Override
+    public void compileLimit(QueryCompiler compiler, Matchable limit, Matchable offset) {
+        // MySQL doesn't support OFFSET without LIMIT, so we use the maximum possible row count in this case.
+        compiler.write("LIMIT ");
+        if (limit != null) {
+            compiler.write(limit);
+        } else {
+            compiler.write("18446744073709551615");
+        }
+        if (offset != null) {
+            compiler.write(" OFFSET ").write(offset);
+        }
+    }
+
+    @Override
+    public void compileUpsert(QueryCompiler compiler, Table table, List<TableColumn> columns,
+                              List<? extends List<? extends Matchable>> rows, List<TableColumn> keyColumns,
+                              List<TableColumn> updateColumns) {
+        // MySQL detects conflicts by any unique key, so the key columns are only used for a no-op update.
+        compileInsertValues(compiler, table, columns, rows);
+        compiler.write(" ON DUPLICATE KEY UPDATE ");
+        if (updateColumns.isEmpty()) {
+            TableColumn column = keyColumns.get(0);
+            compiler.write(column).write(" = ").write(column);
+            return;
+        }
+        for (int i = 0; i < updateColumns.size(); ++i) {
+            if (i != 0) {
+                compiler.write(", ");
+            }
+            TableColumn column = updateColumns.get(i);
+            compiler.write(column).write(" = VALUES(").write(column).write(')');
+        }
+    }
+
+    @Override
+    public void compileReturning(QueryCompiler compiler, Compilable statement, TableReference tableReference,
+                                 List<ResultColumn> returning, boolean deleted) {
+        throw new QueryCompilationException("MySQL doesn't support returning the modified rows.");
+    }
+
+    @Override
+    public int getMaxParameterCount() {
+        return 65535;
+    }
+
     @Override
     public void compileIsDistinctFrom(QueryCompiler compiler, Matchable left, Matchable right) {
         compiler.write("NOT ").write(left).write(" <=> ").write(right);
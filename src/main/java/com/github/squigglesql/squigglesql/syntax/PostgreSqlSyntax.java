@@ -15,7 +15,17 @@
  */
 package com.github.squigglesql.squigglesql.syntax;
 
+import com.github.squigglesql.squigglesql.Compilable;
+import com.github.squigglesql.squigglesql.Matchable;
 import com.github.squigglesql.squigglesql.QueryCompiler;
+import com.github.squigglesql.squigglesql.Table;
+import com.github.squigglesql.squigglesql.TableColumn;
+import com.github.squigglesql.squigglesql.TableReference;
+import com.github.squigglesql.squigglesql.parameter.Parameter;
+import com.github.squigglesql.squigglesql.query.ResultColumn;
+import com.github.squigglesql.squigglesql.util.CollectionWriter;
+
+import java.util.List;
 
 class PostgreSqlSyntax extends CommonSqlSyntax {
 
@@ -28,4 +38,44 @@ class PostgreSqlSyntax extends CommonSqlSyntax {
     public void compileEmptyInsert(QueryCompiler compiler) {
         compiler.write(" DEFAULT VALUES");
     }
+
+    @Override
+    public void compileInArray(QueryCompiler compiler, Matchable value, String elementType, Object[] elements) {
+        compiler.write(value).write(" = ANY(").write(Parameter.ofArray(elementType, elements)).write(')');
+    }
+
+    @Override
+    public void compileUpsert(QueryCompiler compiler, Table table, List<TableColumn> columns,
+                              List<? extends List<? extends Matchable>> rows, List<TableColumn> keyColumns,
+                              List<TableColumn> updateColumns) {
+        compileInsertValues(compiler, table, columns, rows);
+        compiler.write(" ON CONFLICT");
+        CollectionWriter.writeCollection(compiler, keyColumns, ", ", true, false);
+        if (updateColumns.isEmpty()) {
+            compiler.write(" DO NOTHING");
+            return;
+        }
+        compiler.write(" DO UPDATE SET ");
+        for (int i = 0; i < updateColumns.size(); ++i) {
+            if (i != 0) {
+                compiler.write(", ");
+            }
+            TableColumn column = updateColumns.get(i);
+            compiler.write(column).write(" = EXCLUDED.").write(column);
+        }
+    }
+
+    @Override
+    public void compileReturning(QueryCompiler compiler, Compilable statement, TableReference tableReference,
+                                 List<ResultColumn> returning, boolean deleted) {
+        statement.compile(compiler);
+        compiler.writeln().write("RETURNING");
+        CollectionWriter.writeCollection(compiler, returning, ",", false, true);
+    }
+
+    @Override
+    public int getMaxParameterCount() {
+        // Bind message of the protocol stores the parameter count as a 16-bit integer.
+        return Short.MAX_VALUE;
+    }
 }
@@ -0,0 +1,208 @@
+/*
+ * Copyright 2019-2020 Egor Nepomnyaschih and contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.squigglesql.squigglesql.util;
+
+import com.github.squigglesql.squigglesql.Output;
+import com.github.squigglesql.squigglesql.QueryCompiler;
+import com.github.squigglesql.squigglesql.Table;
+import com.github.squigglesql.squigglesql.TableColumn;
+import com.github.squigglesql.squigglesql.parameter.Parameter;
+import com.github.squigglesql.squigglesql.query.InsertQuery;
+import com.github.squigglesql.squigglesql.syntax.AbstractSqlSyntax;
+import com.github.squigglesql.squigglesql.syntax.SqlSyntax;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.InvocationTargetException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Bulk loader behind {@link JdbcUtils#bulkLoad} method. Streams the rows through PostgreSQL "COPY ... FROM STDIN"
+ * statement or MySQL "LOAD DATA LOCAL INFILE" statement, and falls back to batched insertion for other databases
+ * and drivers. The driver APIs are accessed via reflection, so neither driver is required at compile time.
+ */
+abstract class BulkLoad {
+
+    private static final int BUFFER_SIZE = 65536;
+
+    static long load(Table table, List<TableColumn> columns, Connection connection, int batchSize,
+                     Iterable<Parameter[]> rows) throws SQLException {
+        AbstractSqlSyntax syntax = SqlSyntax.from(connection);
+        if (syntax == SqlSyntax.POSTGRE_SQL_SYNTAX) {
+            Class<?> connectionClass = findDriverClass(connection, "org.postgresql.PGConnection");
+            if (connectionClass != null) {
+                return copy(table, columns, connection, rows, connectionClass);
+            }
+        } else if (syntax == SqlSyntax.MY_SQL_SYNTAX) {
+            Class<?> connectionClass = findDriverClass(connection, "com.mysql.cj.jdbc.JdbcConnection");
+            if (connectionClass != null) {
+                return loadData(table, columns, connection, rows, connectionClass);
+            }
+        }
+        return insert(table, columns, connection, syntax, batchSize, rows);
+    }
+
+    private static long copy(Table table, List<TableColumn> columns, Connection connection,
+                             Iterable<Parameter[]> rows, Class<?> connectionClass) throws SQLException {
+        QueryCompiler compiler = new QueryCompiler(new Output(SqlSyntax.POSTGRE_SQL_SYNTAX));
+        compiler.write("COPY ").write(table);
+        CollectionWriter.writeCollection(compiler, columns, ", ", true, false);
+        compiler.write(" FROM STDIN");
+
+        RowStream stream = new RowStream(rows.iterator(), columns.size(), true);
+        try {
+            Object copyManager = connectionClass.getMethod("getCopyAPI").invoke(connection.unwrap(connectionClass));
+            return (Long) copyManager.getClass().getMethod("copyIn", String.class, InputStream.class, int.class)
+                    .invoke(copyManager, compiler.getOutput().toString(), stream, BUFFER_SIZE);
+        } catch (InvocationTargetException e) {
+            throw stream.unwrap(e.getCause());
+        } catch (ReflectiveOperationException e) {
+            throw new SQLException("Unable to access PostgreSQL COPY API.", e);
+        }
+    }
+
+    private static long loadData(Table table, List<TableColumn> columns, Connection connection,
+                                 Iterable<Parameter[]> rows, Class<?> connectionClass) throws SQLException {
+        QueryCompiler compiler = new QueryCompiler(new Output(SqlSyntax.MY_SQL_SYNTAX));
+        compiler.write("LOAD DATA LOCAL INFILE 'stream' INTO TABLE ").write(table)
+                .write(" CHARACTER SET utf8mb4 FIELDS TERMINATED BY '\\t' ESCAPED BY '\\\\'")
+                .write(" LINES TERMINATED BY '\\n' ");
+        CollectionWriter.writeCollection(compiler, columns, ", ", true, false);
+
+        RowStream stream = new RowStream(rows.iterator(), columns.size(), false);
+        try (Statement statement = connection.createStatement()) {
+            Class<?> statementClass = connectionClass.getClassLoader().loadClass("com.mysql.cj.jdbc.JdbcStatement");
+            statementClass.getMethod("setLocalInfileInputStream", InputStream.class)
+                    .invoke(statement.unwrap(statementClass), stream);
+            return statement.executeLargeUpdate(compiler.getOutput().toString());
+        } catch (SQLException e) {
+            throw stream.unwrap(e);
+        } catch (InvocationTargetException e) {
+            throw stream.unwrap(e.getCause());
+        } catch (ReflectiveOperationException e) {
+            throw new SQLException("Unable to access MySQL LOAD DATA API.", e);
+        }
+    }
+
+    private static long insert(Table table, List<TableColumn> columns, Connection connection,
+                               AbstractSqlSyntax syntax, int batchSize, Iterable<Parameter[]> rows)
+            throws SQLException {
+        InsertQuery query = new InsertQuery(table);
+        for (int i = 0; i < columns.size(); ++i) {
+            query.addValue(columns.get(i), Parameter.placeholder("p" + i));
+        }
+        return JdbcUtils.updateBatch(query.prepare(syntax), connection, batchSize, rows);
+    }
+
+    private static Class<?> findDriverClass(Connection connection, String name) throws SQLException {
+        Class<?> driverClass;
+        try {
+            driverClass = Class.forName(name, false, connection.getClass().getClassLoader());
+        } catch (ClassNotFoundException e) {
+            return null;
+        }
+        return connection.isWrapperFor(driverClass) ? driverClass : null;
+    }
+
+    /**
+     * Input stream encoding the rows lazily in portions of about {@link #BUFFER_SIZE} bytes, so the memory
+     * consumption doesn't depend on the number of rows. The drivers only see {@link IOException}, so the original
+     * exception gets remembered and rethrown by {@link RowStream#unwrap} method after the statement fails.
+     */
+    private static class RowStream extends InputStream {
+
+        private final Iterator<Parameter[]> rows;
+        private final int columnCount;
+        private final StringBuilder builder = new StringBuilder();
+        private final BulkLoadEncoder encoder;
+
+        private byte[] buffer = new byte[0];
+        private int position = 0;
+        private Exception failure;
+
+        RowStream(Iterator<Parameter[]> rows, int columnCount, boolean postgreSql) {
+            this.rows = rows;
+            this.columnCount = columnCount;
+            this.encoder = new BulkLoadEncoder(builder, postgreSql);
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (!ensureAvailable()) {
+                return -1;
+            }
+            return buffer[position++] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (len == 0) {
+                return 0;
+            }
+            if (!ensureAvailable()) {
+                return -1;
+            }
+            int count = Math.min(len, buffer.length - position);
+            System.arraycopy(buffer, position, b, off, count);
+            position += count;
+            return count;
+        }
+
+        SQLException unwrap(Throwable e) {
+            if (failure instanceof RuntimeException) {
+                throw (RuntimeException) failure;
+            }
+            if (failure instanceof SQLException) {
+                return (SQLException) failure;
+            }
+            if (e instanceof SQLException) {
+                return (SQLException) e;
+            }
+            if (e instanceof RuntimeException) {
+                throw (RuntimeException) e;
+            }
+            if (e instanceof Error) {
+                throw (Error) e;
+            }
+            return new SQLException(e);
+        }
+
+        private boolean ensureAvailable() throws IOException {
+            while (position == buffer.length) {
+                if (failure != null || !rows.hasNext()) {
+                    return false;
+                }
+                builder.setLength(0);
+                try {
+                    while (builder.length() < BUFFER_SIZE && rows.hasNext()) {
+                        encoder.writeRow(rows.next(), columnCount);
+                    }
+                } catch (SQLException | RuntimeException e) {
+                    failure = e;
+                    throw new IOException("Unable to encode a row.", e);
+                }
+                buffer = builder.toString().getBytes(StandardCharsets.UTF_8);
+                position = 0;
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,294 @@
+/*
+ * Copyright 2019-2020 Egor Nepomnyaschih and contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.squigglesql.squigglesql.util;
+
+import com.github.squigglesql.squigglesql.parameter.Parameter;
+import com.github.squigglesql.squigglesql.statement.Parametrized;
+
+import java.math.BigDecimal;
+import java.sql.Array;
+import java.sql.Date;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.Calendar;
+
+/**
+ * Encodes rows of parameter values to the tab-separated text format shared by PostgreSQL COPY and MySQL LOAD DATA
+ * statements. Every value is converted the same way as JDBC driver converts the corresponding statement parameter.
+ * Nulls are written as "\N", and backslash, tab, line feed and carriage return characters are escaped with a
+ * backslash. NUL characters are escaped for MySQL and rejected for PostgreSQL, which doesn't support them in text
+ * values. Every row is terminated with a line feed.
+ */
+class BulkLoadEncoder implements Parametrized {
+
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("uuuu-MM-dd");
+    private static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("HH:mm:ss.SSS");
+    private static final DateTimeFormatter TIMESTAMP_FORMATTER =
+            DateTimeFormatter.ofPattern("uuuu-MM-dd HH:mm:ss.SSSSSS");
+    private static final DateTimeFormatter ZONED_TIMESTAMP_FORMATTER =
+            DateTimeFormatter.ofPattern("uuuu-MM-dd HH:mm:ss.SSSSSSxxx");
+
+    private final StringBuilder builder;
+    private final boolean postgreSql;
+    private boolean first = true;
+
+    /**
+     * Creates an encoder.
+     *
+     * @param builder    buffer to write the rows to.
+     * @param postgreSql true to encode the rows for PostgreSQL COPY statement, false for MySQL LOAD DATA statement.
+     */
+    BulkLoadEncoder(StringBuilder builder, boolean postgreSql) {
+        this.builder = builder;
+        this.postgreSql = postgreSql;
+    }
+
+    /**
+     * Writes a row to the buffer.
+     *
+     * @param row         row values.
+     * @param columnCount expected number of values.
+     * @throws SQLException if a value can not be encoded.
+     */
+    void writeRow(Parameter[] row, int columnCount) throws SQLException {
+        if (row == null || row.length != columnCount) {
+            throw new IllegalArgumentException("Row must contain exactly " + columnCount + " values.");
+        }
+        first = true;
+        for (Parameter value : row) {
+            if (value == null) {
+                throw new IllegalArgumentException("Value can not be null.");
+            }
+            value.addValue(this);
+        }
+        builder.append('\n');
+    }
+
+    @Override
+    public void addNull(int sqlType) {
+        separate().append("\\N");
+    }
+
+    @Override
+    public void addObject(Object value) {
+        if (value == null) {
+            addNull(0);
+        } else {
+            writeEscaped(value.toString());
+        }
+    }
+
+    @Override
+    public void addBoolean(boolean value) {
+        separate().append(postgreSql ? (value ? 't' : 'f') : (value ? '1' : '0'));
+    }
+
+    @Override
+    public void addByte(byte value) {
+        separate().append(value);
+    }
+
+    @Override
+    public void addShort(short value) {
+        separate().append(value);
+    }
+
+    @Override
+    public void addInteger(int value) {
+        separate().append(value);
+    }
+
+    @Override
+    public void addLong(long value) {
+        separate().append(value);
+    }
+
+    @Override
+    public void addFloat(float value) {
+        separate().append(value);
+    }
+
+    @Override
+    public void addDouble(double value) {
+        separate().append(value);
+    }
+
+    @Override
+    public void addBigDecimal(BigDecimal value) {
+        if (value == null) {
+            addNull(0);
+        } else {
+            separate().append(value.toPlainString());
+        }
+    }
+
+    @Override
+    public void addString(String value) {
+        if (value == null) {
+            addNull(0);
+        } else {
+            writeEscaped(value);
+        }
+    }
+
+    @Override
+    public void addTimestamp(Timestamp value, Calendar calendar) {
+        if (value == null) {
+            addNull(0);
+            return;
+        }
+        // PostgreSQL needs the offset to interpret the value correctly for timestamptz columns, and ignores it for
+        // timestamp columns. MySQL doesn't support offsets, so it gets local date/time as JDBC driver sends it.
+        (postgreSql ? ZONED_TIMESTAMP_FORMATTER : TIMESTAMP_FORMATTER)
+                .formatTo(value.toInstant().atZone(getZone(calendar)), separate());
+    }
+
+    @Override
+    public void addTime(Time value, Calendar calendar) {
+        if (value == null) {
+            addNull(0);
+        } else if (calendar == null) {
+            TIME_FORMATTER.formatTo(SquiggleUtils.deserialize(value), separate());
+        } else {
+            TIME_FORMATTER.formatTo(Instant.ofEpochMilli(value.getTime()).atZone(getZone(calendar)), separate());
+        }
+    }
+
+    @Override
+    public void addDate(Date value, Calendar calendar) {
+        if (value == null) {
+            addNull(0);
+        } else if (calendar == null) {
+            DATE_FORMATTER.formatTo(value.toLocalDate(), separate());
+        } else {
+            DATE_FORMATTER.formatTo(Instant.ofEpochMilli(value.getTime()).atZone(getZone(calendar)), separate());
+        }
+    }
+
+    @Override
+    public void addArray(Array value) throws SQLException {
+        if (value == null) {
+            addNull(0);
+        } else {
+            addArray(value.getBaseTypeName(), (Object[]) value.getArray());
+        }
+    }
+
+    @Override
+    public void addArray(String elementType, Object[] elements) throws SQLException {
+        if (!postgreSql) {
+            throw new SQLFeatureNotSupportedException("MySQL doesn't support arrays.");
+        }
+        if (elements == null) {
+            addNull(0);
+            return;
+        }
+        StringBuilder literal = new StringBuilder();
+        writeArrayLiteral(literal, elements);
+        writeEscaped(literal);
+    }
+
+    @Override
+    public void addBytes(byte[] value) throws SQLException {
+        if (!postgreSql) {
+            throw new SQLFeatureNotSupportedException("Binary values are not supported by MySQL bulk load.");
+        }
+        if (value == null) {
+            addNull(0);
+            return;
+        }
+        // Hex format of bytea with the leading backslash escaped.
+        StringBuilder builder = separate().append("\\\\x");
+        for (byte b : value) {
+            builder.append(HEX_DIGITS[(b >> 4) & 0xF]).append(HEX_DIGITS[b & 0xF]);
+        }
+    }
+
+    private StringBuilder separate() {
+        if (first) {
+            first = false;
+        } else {
+            builder.append('\t');
+        }
+        return builder;
+    }
+
+    private void writeEscaped(CharSequence value) {
+        separate();
+        for (int i = 0, n = value.length(); i < n; ++i) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '\\':
+                    builder.append("\\\\");
+                    break;
+                case '\t':
+                    builder.append("\\t");
+                    break;
+                case '\n':
+                    builder.append("\\n");
+                    break;
+                case '\r':
+                    builder.append("\\r");
+                    break;
+                case '\0':
+                    if (postgreSql) {
+                        throw new IllegalArgumentException("PostgreSQL text values can not contain NUL characters.");
+                    }
+                    builder.append("\\0");
+                    break;
+                default:
+                    builder.append(c);
+            }
+        }
+    }
+
+    private static void writeArrayLiteral(StringBuilder literal, Object[] elements) {
+        literal.append('{');
+        for (int i = 0; i < elements.length; ++i) {
+            if (i != 0) {
+                literal.append(',');
+            }
+            Object element = elements[i];
+            if (element == null) {
+                literal.append("NULL");
+            } else if (element instanceof Object[]) {
+                writeArrayLiteral(literal, (Object[]) element);
+            } else {
+                literal.append('"');
+                String s = element.toString();
+                for (int j = 0, n = s.length(); j < n; ++j) {
+                    char c = s.charAt(j);
+                    if (c == '"' || c == '\\') {
+                        literal.append('\\');
+                    }
+                    literal.append(c);
+                }
+                literal.append('"');
+            }
+        }
+        literal.append('}');
+    }
+
+    private static ZoneId getZone(Calendar calendar) {
+        return calendar != null ? calendar.getTimeZone().toZoneId() : ZoneId.systemDefault();
+    }
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright 2019-2020 Egor Nepomnyaschih and contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.squigglesql.squigglesql.util;
+
+import com.github.squigglesql.squigglesql.ResultMapper;
+import com.github.squigglesql.squigglesql.parameter.Parameter;
+import com.github.squigglesql.squigglesql.query.CompiledQuery;
+import com.github.squigglesql.squigglesql.statement.JdbcStatementCompiler;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * JDBC batch executor. Prepares a single statement for a compiled query, binds a new set of parameter values to it
+ * for every {@link JdbcBatch#add} call and executes the accumulated sets with {@link PreparedStatement#executeBatch()}
+ * as soon as the batch size is reached. Update counts and generated keys of all executions get aggregated.
+ * <p>
+ * Closing the batch doesn't execute the remaining parameter sets, so call {@link JdbcBatch#flush()} before that.
+ * The batch is not thread-safe.
+ *
+ * @param <T> type of generated key.
+ * @since 4.3.0
+ */
+public class JdbcBatch<T> implements AutoCloseable {
+
+    private final CompiledQuery query;
+    private final int batchSize;
+    private final ResultMapper<T> keyMapper;
+    private final PreparedStatement statement;
+    private final List<T> keys = new ArrayList<>();
+
+    private int pendingCount = 0;
+    private long updateCount = 0;
+
+    /**
+     * Creates a batch executor ignoring generated keys.
+     *
+     * @param connection JDBC connection.
+     * @param query      compiled query to execute.
+     * @param batchSize  number of parameter sets to execute at once.
+     * @throws SQLException if JDBC driver throws the exception.
+     */
+    public JdbcBatch(Connection connection, CompiledQuery query, int batchSize) throws SQLException {
+        this(connection, query, batchSize, null);
+    }
+
+    /**
+     * Creates a batch executor.
+     *
+     * @param connection JDBC connection.
+     * @param query      compiled query to execute.
+     * @param batchSize  number of parameter sets to execute at once.
+     * @param keyMapper  mapper for generated keys. If null, the keys are ignored.
+     * @throws SQLException if JDBC driver throws the exception.
+     */
+    public JdbcBatch(Connection connection, CompiledQuery query, int batchSize, ResultMapper<T> keyMapper)
+            throws SQLException {
+        if (connection == null) {
+            throw new IllegalArgumentException("Connection can not be null.");
+        }
+        if (query == null) {
+            throw new IllegalArgumentException("Query can not be null.");
+        }
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Batch size must be positive.");
+        }
+        this.query = query;
+        this.batchSize = batchSize;
+        this.keyMapper = keyMapper;
+        this.statement = query.createStatementBuilder(new JdbcStatementCompiler(connection)).buildStatement();
+    }
+
+    /**
+     * Adds a set of parameter values to the batch. Executes the batch if it reaches the batch size.
+     *
+     * @param values parameter values, one per slot of the query.
+     * @throws SQLException if JDBC driver throws the exception.
+     */
+    public void add(Parameter... values) throws SQLException {
+        query.bindParameters(JdbcStatementCompiler.wrap(statement), values);
+        statement.addBatch();
+        if (++pendingCount >= batchSize) {
+            flush();
+        }
+    }
+
+    /**
+     * Executes all parameter sets added since the last execution.
+     *
+     * @throws SQLException if JDBC driver throws the exception.
+     */
+    public void flush() throws SQLException {
+        if (pendingCount == 0) {
+            return;
+        }
+        pendingCount = 0;
+        for (int count : statement.executeBatch()) {
+            if (count != Statement.SUCCESS_NO_INFO) {
+                updateCount += count;
+            }
+        }
+        if (keyMapper != null) {
+            try (ResultSet rs = statement.getGeneratedKeys()) {
+                while (rs.next()) {
+                    keys.add(keyMapper.apply(rs));
+                }
+            }
+        }
+    }
+
+    /**
+     * @return number of parameter sets added but not executed yet.
+     */
+    public int getPendingCount() {
+        return pendingCount;
+    }
+
+    /**
+     * @return total number of rows updated by the executed parameter sets. Drivers returning
+     * {@link Statement#SUCCESS_NO_INFO} don't contribute to the count.
+     */
+    public long getUpdateCount() {
+        return updateCount;
+    }
+
+    /**
+     * @return generated keys of the executed parameter sets in the order of execution.
+     */
+    public List<T> getKeys() {
+        return Collections.unmodifiableList(keys);
+    }
+
+    /**
+     * Closes the underlying statement without executing the pending parameter sets.
+     *
+     * @throws SQLException if JDBC driver throws the exception.
+     */
+    @Override
+    public void close() throws SQLException {
+        statement.close();
+    }
+}
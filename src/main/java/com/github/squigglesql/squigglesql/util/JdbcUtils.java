@@ -16,8 +16,14 @@
 package com.github.squigglesql.squigglesql.util;
 
 import com.github.squigglesql.squigglesql.ResultMapper;
+import com.github.squigglesql.squigglesql.Table;
+import com.github.squigglesql.squigglesql.TableColumn;
+import com.github.squigglesql.squigglesql.parameter.Parameter;
+import com.github.squigglesql.squigglesql.query.BatchInsertQuery;
+import com.github.squigglesql.squigglesql.query.CompiledQuery;
 import com.github.squigglesql.squigglesql.query.Query;
 import com.github.squigglesql.squigglesql.statement.JdbcStatementCompiler;
+import com.github.squigglesql.squigglesql.syntax.AbstractSqlSyntax;
 
 import java.math.BigDecimal;
 import java.sql.Array;
@@ -35,6 +41,11 @@ import java.time.LocalTime;
 import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Utilities for {@link ResultSet} parsing.
@@ -463,6 +474,63 @@ public abstract class JdbcUtils {
         }
     }
 
+    /**
+     * Helper function that executes a selection query and returns a lazily mapped stream of the result rows. The rows
+     * get fetched from the database in portions of the specified size via a forward-only read-only result set, so
+     * the memory consumption doesn't depend on the result size. The stream must be closed to release the statement
+     * and the result set, e.g. with try-with-resources statement. SQL exceptions thrown during the iteration get
+     * wrapped in {@link UncheckedSQLException}.
+     * <b>Note:</b> PostgreSQL JDBC driver uses a cursor only if auto-commit is disabled, and MySQL JDBC driver
+     * requires useCursorFetch=true connection property.
+     *
+     * @param query      SQL selection query.
+     * @param connection JDBC connection.
+     * @param mapper     callback to map ResultSet to a Java model instance.
+     * @param fetchSize  number of rows to fetch from the database at once, or 0 to use the driver default.
+     * @param <T>        Java model class.
+     * @return stream of Java model instances.
+     * @throws SQLException if JDBC driver throws the exception.
+     * @since 4.3.0
+     */
+    public static <T> Stream<T> stream(Query query, Connection connection, ResultMapper<T> mapper, int fetchSize)
+            throws SQLException {
+        PreparedStatement statement = query.toStatement(new JdbcStatementCompiler(connection, fetchSize));
+        ResultSet rs;
+        try {
+            rs = statement.executeQuery();
+        } catch (SQLException e) {
+            statement.close();
+            throw e;
+        }
+        Spliterator<T> spliterator = new Spliterators.AbstractSpliterator<T>(
+                Long.MAX_VALUE, Spliterator.ORDERED) {
+
+            @Override
+            public boolean tryAdvance(Consumer<? super T> action) {
+                try {
+                    if (!rs.next()) {
+                        return false;
+                    }
+                    action.accept(mapper.apply(rs));
+                    return true;
+                } catch (SQLException e) {
+                    throw new UncheckedSQLException(e);
+                }
+            }
+        };
+        return StreamSupport.stream(spliterator, false).onClose(() -> {
+            try {
+                try {
+                    rs.close();
+                } finally {
+                    statement.close();
+                }
+            } catch (SQLException e) {
+                throw new UncheckedSQLException(e);
+            }
+        });
+    }
+
     /**
      * Helper function that executes an insertion query and returns a generated key of the inserted row.
      *
@@ -483,6 +551,138 @@ public abstract class JdbcUtils {
         }
     }
 
+    /**
+     * Helper function that executes a multi-row insertion query in chunks and returns generated keys of all inserted
+     * rows in the order of insertion. Every chunk gets executed as a single statement, and the chunks respect the
+     * parameter limit of the database.
+     *
+     * @param query      SQL multi-row insertion query.
+     * @param connection JDBC connection.
+     * @param chunkSize  maximum number of rows per statement.
+     * @param keyMapper  Mapper for generated keys.
+     * @param <T>        type of generated key.
+     * @return list of generated keys.
+     * @throws SQLException if JDBC driver throws the exception.
+     * @since 4.3.0
+     */
+    public static <T> List<T> insertAll(BatchInsertQuery query, Connection connection, int chunkSize,
+                                        ResultMapper<T> keyMapper) throws SQLException {
+        JdbcStatementCompiler compiler = new JdbcStatementCompiler(connection);
+        AbstractSqlSyntax syntax = compiler.detectDefaultSyntax();
+        List<T> result = new ArrayList<>(query.getRowCount());
+        for (BatchInsertQuery chunk : query.split(syntax, chunkSize)) {
+            try (PreparedStatement statement = chunk.toStatement(syntax, compiler, true)) {
+                statement.executeUpdate();
+                try (ResultSet rs = statement.getGeneratedKeys()) {
+                    while (rs.next()) {
+                        result.add(keyMapper.apply(rs));
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Helper function that executes a compiled query with multiple sets of parameter values via JDBC batches and
+     * returns a total number of updated rows.
+     *
+     * @param query      compiled SQL query.
+     * @param connection JDBC connection.
+     * @param batchSize  number of parameter sets to execute at once.
+     * @param rows       parameter value sets, one value per slot of the query.
+     * @return total number of updated rows.
+     * @throws SQLException if JDBC driver throws the exception.
+     * @see JdbcBatch
+     * @since 4.3.0
+     */
+    public static long updateBatch(CompiledQuery query, Connection connection, int batchSize,
+                                   Iterable<Parameter[]> rows) throws SQLException {
+        try (JdbcBatch<Void> batch = new JdbcBatch<>(connection, query, batchSize)) {
+            for (Parameter[] row : rows) {
+                batch.add(row);
+            }
+            batch.flush();
+            return batch.getUpdateCount();
+        }
+    }
+
+    /**
+     * Helper function that executes a compiled insertion query with multiple sets of parameter values via JDBC
+     * batches and returns generated keys of all inserted rows.
+     *
+     * @param query      compiled SQL insertion query.
+     * @param connection JDBC connection.
+     * @param batchSize  number of parameter sets to execute at once.
+     * @param rows       parameter value sets, one value per slot of the query.
+     * @param keyMapper  Mapper for generated keys.
+     * @param <T>        type of generated key.
+     * @return list of generated keys.
+     * @throws SQLException if JDBC driver throws the exception.
+     * @see JdbcBatch
+     * @since 4.3.0
+     */
+    public static <T> List<T> insertBatch(CompiledQuery query, Connection connection, int batchSize,
+                                          Iterable<Parameter[]> rows, ResultMapper<T> keyMapper)
+            throws SQLException {
+        try (JdbcBatch<T> batch = new JdbcBatch<>(connection, query, batchSize, keyMapper)) {
+            for (Parameter[] row : rows) {
+                batch.add(row);
+            }
+            batch.flush();
+            return batch.getKeys();
+        }
+    }
+
+    /**
+     * Helper function that loads rows into a table via the native bulk loading path of the database and returns a
+     * number of loaded rows. The rows get encoded lazily and streamed to the database, so the memory consumption
+     * doesn't depend on the number of rows.
+     *
+     * <ul>
+     * <li>PostgreSQL gets the rows via "COPY ... FROM STDIN" statement. PostgreSQL doesn't support NUL characters in
+     * text values, so such values are rejected with {@link IllegalArgumentException}.</li>
+     * <li>MySQL gets the rows via "LOAD DATA LOCAL INFILE" statement. This requires allowLoadLocalInfile=true
+     * connection property and local_infile server variable. MySQL doesn't support binary and array values here, and
+     * reports duplicate keys and invalid values as warnings instead of errors.</li>
+     * <li>Other databases get the rows via batched insertion, see
+     * {@link JdbcUtils#updateBatch(CompiledQuery, Connection, int, Iterable)}.</li>
+     * </ul>
+     * <p>
+     * The values get encoded the same way as JDBC driver binds the corresponding {@link Parameter} instances. If the
+     * loading fails, some rows may already be stored, so run it in a transaction to make it atomic.
+     *
+     * @param table      table to load rows to.
+     * @param columns    columns to load values to.
+     * @param connection JDBC connection.
+     * @param batchSize  number of rows to execute at once if the database doesn't support bulk loading.
+     * @param rows       rows to load, one value per column.
+     * @return number of loaded rows.
+     * @throws SQLException if JDBC driver throws the exception.
+     * @since 4.3.0
+     */
+    public static long bulkLoad(Table table, List<TableColumn> columns, Connection connection, int batchSize,
+                                Iterable<Parameter[]> rows) throws SQLException {
+        if (table == null) {
+            throw new IllegalArgumentException("Table can not be null.");
+        }
+        if (columns == null || columns.isEmpty()) {
+            throw new IllegalArgumentException("Columns can not be empty.");
+        }
+        for (TableColumn column : columns) {
+            if (!column.getTable().equals(table)) {
+                throw new IllegalArgumentException("Can not insert a value to a different database table.");
+            }
+        }
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Batch size must be positive.");
+        }
+        if (rows == null) {
+            throw new IllegalArgumentException("Rows can not be null.");
+        }
+        return BulkLoad.load(table, columns, connection, batchSize, rows);
+    }
+
     /**
      * Helper function that executes an update query and returns a number of updated rows.
      *
@@ -0,0 +1,44 @@
+/*
+ * Copyright 2019-2020 Egor Nepomnyaschih and contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.squigglesql.squigglesql.util;
+
+import java.sql.SQLException;
+
+/**
+ * Wraps an {@link SQLException} thrown where checked exceptions are not allowed, e.g. during iteration over a
+ * {@link java.util.stream.Stream} returned by {@link JdbcUtils#stream}.
+ *
+ * @since 4.3.0
+ */
+public class UncheckedSQLException extends RuntimeException {
+
+    /**
+     * Creates an exception.
+     *
+     * @param cause the original exception.
+     */
+    public UncheckedSQLException(SQLException cause) {
+        super(cause);
+    }
+
+    /**
+     * @return the original exception.
+     */
+    @Override
+    public synchronized SQLException getCause() {
+        return (SQLException) super.getCause();
+    }
+}
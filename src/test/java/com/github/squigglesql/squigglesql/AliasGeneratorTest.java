@@ -16,13 +16,19 @@
 package com.github.squigglesql.squigglesql;
 
 import com.github.squigglesql.squigglesql.alias.AliasGenerator;
+import com.github.squigglesql.squigglesql.alias.AliasMap;
 import com.github.squigglesql.squigglesql.alias.Aliasable;
 import com.github.squigglesql.squigglesql.alias.Alphabet;
 import com.github.squigglesql.squigglesql.alias.PreferredAliases;
 import org.junit.Assert;
 import org.junit.Test;
 
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 
 public class AliasGeneratorTest {
 
@@ -48,6 +54,13 @@ public class AliasGeneratorTest {
         Assert.assertEquals("aba", AliasGenerator.generateAlphabetic(15, ALPHABET));
     }
 
+    @Test
+    public void testAlphabeticNotPrecomputed() {
+        Assert.assertEquals("ccccc", AliasGenerator.generateAlphabetic(362, ALPHABET));
+        Assert.assertEquals("aaaaaa", AliasGenerator.generateAlphabetic(363, ALPHABET));
+        Assert.assertEquals("aaaaab", AliasGenerator.generateAlphabetic(364, ALPHABET));
+    }
+
     @Test
     public void testAliasable() {
         AliasGenerator generator = new AliasGenerator(ALPHABET);
@@ -62,6 +75,25 @@ public class AliasGeneratorTest {
         assertEquals("aa", generator.generateAlias(new MockAliasable("hello")));
     }
 
+    @Test
+    public void testAliasMap() {
+        TableReference employee = new Table("employee").refer();
+        TableReference department = new Table("department").refer();
+        Map<TableReference, String> aliases = new LinkedHashMap<>();
+        aliases.put(employee, "e");
+        aliases.put(department, "d");
+        AliasMap<TableReference> first = new AliasMap<>(aliases);
+        assertEquals("e", first.get(employee));
+        assertEquals("d", first.get(department));
+
+        // maps sharing the objects don't interfere
+        AliasMap<TableReference> second = new AliasMap<>(Collections.singletonMap(department, "x"));
+        assertEquals("x", second.get(department));
+        assertNull(second.get(employee));
+        assertEquals("d", first.get(department));
+        assertEquals(2, first.size());
+    }
+
     private static class MockAliasable implements Aliasable {
 
         private final String name;
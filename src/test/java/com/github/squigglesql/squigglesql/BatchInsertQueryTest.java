@@ -0,0 +1,127 @@
+/*
+ * Copyright 2019-2020 Egor Nepomnyaschih and contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.squigglesql.squigglesql;
+
+import com.github.squigglesql.squigglesql.databases.TestDatabaseColumn;
+import com.github.squigglesql.squigglesql.literal.Literal;
+import com.github.squigglesql.squigglesql.mock.MockStatement;
+import com.github.squigglesql.squigglesql.mock.MockStatementCompiler;
+import com.github.squigglesql.squigglesql.parameter.Parameter;
+import com.github.squigglesql.squigglesql.query.BatchInsertQuery;
+import com.github.squigglesql.squigglesql.syntax.SqlSyntax;
+import com.github.squigglesql.squigglesql.util.JdbcUtils;
+import org.junit.Test;
+
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+public class BatchInsertQueryTest {
+
+    private static final Table EMPLOYEE = new Table("employee");
+    private static final TableColumn EMPLOYEE_NAME = EMPLOYEE.get("name");
+    private static final TableColumn EMPLOYEE_AGE = EMPLOYEE.get("age");
+
+    @Test
+    public void testBatchInsertQuery() throws SQLException {
+        BatchInsertQuery query = new BatchInsertQuery(EMPLOYEE, EMPLOYEE_NAME, EMPLOYEE_AGE);
+        query.addRow(Parameter.of("John"), Parameter.of(30));
+        query.addRow(Literal.of("Mike"), Parameter.of(40));
+
+        MockStatement statement = query.toStatement(new MockStatementCompiler());
+
+        assertEquals("INSERT INTO employee(name, age) VALUES (?, ?), ('Mike', ?)", statement.getQuery());
+        assertEquals(Arrays.asList("John", 30, 40), statement.getParameters());
+    }
+
+    @Test
+    public void testSplitByRows() {
+        BatchInsertQuery query = createQuery(5);
+
+        List<BatchInsertQuery> chunks = query.split(SqlSyntax.DEFAULT_SQL_SYNTAX, 2);
+
+        assertEquals(3, chunks.size());
+        assertEquals(2, chunks.get(0).getRowCount());
+        assertEquals(2, chunks.get(1).getRowCount());
+        assertEquals(1, chunks.get(2).getRowCount());
+        assertEquals("INSERT INTO employee(name, age) VALUES (?, ?)", chunks.get(2).toString());
+    }
+
+    @Test
+    public void testSplitByParameters() {
+        BatchInsertQuery query = createQuery(40000);
+
+        List<BatchInsertQuery> chunks = query.split(SqlSyntax.POSTGRE_SQL_SYNTAX, 100000);
+
+        assertEquals(3, chunks.size());
+        assertEquals(16383, chunks.get(0).getRowCount());
+        assertEquals(16383, chunks.get(1).getRowCount());
+        assertEquals(7234, chunks.get(2).getRowCount());
+    }
+
+    @Test
+    public void testSplitByNestedParameters() {
+        BatchInsertQuery query = new BatchInsertQuery(EMPLOYEE, EMPLOYEE_NAME, EMPLOYEE_AGE);
+        for (int i = 0; i < 20000; ++i) {
+            query.addRow(Literal.of("Employee"), new FunctionCall("COALESCE", Parameter.of(i), Parameter.of(0)));
+        }
+
+        List<BatchInsertQuery> chunks = query.split(SqlSyntax.POSTGRE_SQL_SYNTAX, 100000);
+
+        assertEquals(2, chunks.size());
+        assertEquals(16383, chunks.get(0).getRowCount());
+        assertEquals(3617, chunks.get(1).getRowCount());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testWrongRowSize() {
+        new BatchInsertQuery(EMPLOYEE, EMPLOYEE_NAME, EMPLOYEE_AGE).addRow(Parameter.of("John"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testDifferentTableException() {
+        new BatchInsertQuery(new Table("department"), EMPLOYEE_NAME);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testEmptyQueryException() {
+        new BatchInsertQuery(EMPLOYEE, EMPLOYEE_NAME).toString();
+    }
+
+    @Test
+    public void testInsertAll() throws SQLException {
+        TestUtils.withDatabase((connection, database) -> {
+            TestUtils.withTable(connection, database, EMPLOYEE.getName(), new TestDatabaseColumn[]{
+                    new TestDatabaseColumn(EMPLOYEE_NAME.getName(), "TEXT", true, null),
+                    new TestDatabaseColumn(EMPLOYEE_AGE.getName(), "INTEGER", true, null)
+            }, () -> {
+                List<Integer> keys = JdbcUtils.insertAll(createQuery(5), connection, 2, rs -> rs.getInt(1));
+                assertEquals(Arrays.asList(1, 2, 3, 4, 5), keys);
+                return null;
+            });
+        });
+    }
+
+    private static BatchInsertQuery createQuery(int rowCount) {
+        BatchInsertQuery query = new BatchInsertQuery(EMPLOYEE, EMPLOYEE_NAME, EMPLOYEE_AGE);
+        for (int i = 0; i < rowCount; ++i) {
+            query.addRow(Parameter.of("Employee " + i), Parameter.of(20 + i % 40));
+        }
+        return query;
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright 2019-2020 Egor Nepomnyaschih and contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.squigglesql.squigglesql;
+
+import com.github.squigglesql.squigglesql.join.QualifiedJoin;
+import com.github.squigglesql.squigglesql.join.QualifiedJoinKind;
+import com.github.squigglesql.squigglesql.literal.Literal;
+import com.github.squigglesql.squigglesql.mock.MockStatement;
+import com.github.squigglesql.squigglesql.mock.MockStatementCompiler;
+import com.github.squigglesql.squigglesql.parameter.Parameter;
+import com.github.squigglesql.squigglesql.query.DeleteQuery;
+import com.github.squigglesql.squigglesql.query.InsertQuery;
+import com.github.squigglesql.squigglesql.query.ResultColumn;
+import com.github.squigglesql.squigglesql.query.SelectQuery;
+import com.github.squigglesql.squigglesql.query.UpdateQuery;
+import com.github.squigglesql.squigglesql.syntax.SqlSyntax;
+import org.junit.Test;
+
+import java.sql.SQLException;
+import java.util.Arrays;
+
+import static com.github.squigglesql.squigglesql.criteria.Criteria.and;
+import static com.github.squigglesql.squigglesql.criteria.Criteria.equal;
+import static com.github.squigglesql.squigglesql.criteria.Criteria.greater;
+import static com.github.squigglesql.squigglesql.criteria.Criteria.in;
+import static com.github.squigglesql.squigglesql.criteria.Criteria.or;
+import static org.junit.Assert.assertEquals;
+
+public class CompactOutputTest {
+
+    @Test
+    public void testSelect() {
+        Table person = new Table("person");
+        TableColumn personId = person.get("id");
+        TableColumn personName = person.get("name");
+        TableColumn personAge = person.get("age");
+
+        Table vehicle = new Table("vehicle");
+        TableColumn vehicleName = vehicle.get("name");
+        TableColumn vehiclePersonId = vehicle.get("person_id");
+        TableColumn vehicleColor = vehicle.get("color");
+
+        TableReference p = person.refer();
+        TableReference v = vehicle.refer();
+
+        SelectQuery select = new SelectQuery(true);
+        select.addToSelection(v.get(vehicleName));
+        ResultColumn name = select.addToSelection(p.get(personName));
+        select.addFrom(new QualifiedJoin(v, QualifiedJoinKind.LEFT, p,
+                equal(v.get(vehiclePersonId), p.get(personId))));
+        select.addCriteria(or(
+                in(v.get(vehicleColor), Arrays.asList(Literal.of("blue"), Literal.of("green"))),
+                and(greater(p.get(personAge), Literal.of(18)), equal(p.get(personName), Literal.of("John")))));
+        select.addOrder(name, true);
+        select.addOrder(v.get(vehicleName), false);
+
+        assertEquals("SELECT DISTINCT v.name, p.name as a FROM vehicle v LEFT JOIN person p ON v.person_id = p.id "
+                + "WHERE (v.color IN ('blue', 'green') OR (p.age > 18 AND p.name = 'John')) ORDER BY a, "
+                + "v.name DESC", select.toString(SqlSyntax.DEFAULT_SQL_SYNTAX, true));
+    }
+
+    @Test
+    public void testSubSelect() {
+        Table employee = new Table("employee");
+        TableColumn employeeName = employee.get("name");
+        TableColumn employeeTaxCode = employee.get("tax_code");
+
+        Table taxCode = new Table("tax_code");
+        TableColumn taxCodeId = taxCode.get("id");
+        TableColumn taxCodeValid = taxCode.get("valid");
+
+        TableReference e = employee.refer();
+        TableReference t = taxCode.refer();
+
+        SelectQuery subSelect = new SelectQuery();
+        subSelect.addToSelection(t.get(taxCodeId));
+        subSelect.addCriteria(equal(t.get(taxCodeValid), Literal.of(true)));
+
+        SelectQuery select = new SelectQuery();
+        select.addToSelection(e.get(employeeName));
+        select.addCriteria(equal(e.get(employeeTaxCode), subSelect));
+
+        assertEquals("SELECT \"e\".\"name\" FROM \"employee\" \"e\" WHERE \"e\".\"tax_code\" = (SELECT \"t\".\"id\" "
+                + "FROM \"tax_code\" \"t\" WHERE \"t\".\"valid\" = true)",
+                select.toString(SqlSyntax.POSTGRE_SQL_SYNTAX, true));
+    }
+
+    @Test
+    public void testInsert() throws SQLException {
+        Table employee = new Table("employee");
+        TableColumn employeeName = employee.get("name");
+        TableColumn employeeAge = employee.get("age");
+
+        InsertQuery insert = new InsertQuery(employee);
+        insert.addValue(employeeName, Parameter.of("John"));
+        insert.addValue(employeeAge, Parameter.of(30));
+
+        MockStatement statement = insert.toStatement(new MockStatementCompiler(), true);
+        assertEquals("INSERT INTO employee(name, age) VALUES (?, ?)", statement.getQuery());
+        assertEquals(Arrays.asList("John", 30), statement.getParameters());
+    }
+
+    @Test
+    public void testUpdate() {
+        Table employee = new Table("employee");
+        TableColumn employeeId = employee.get("id");
+        TableColumn employeeStatus = employee.get("status");
+        TableColumn employeeStatusChangedAt = employee.get("status_changed_at");
+
+        Table session = new Table("session");
+        TableColumn sessionId = session.get("id");
+        TableColumn sessionEmployeeId = session.get("employee_id");
+
+        TableReference e = employee.refer();
+        TableReference s = session.refer();
+
+        UpdateQuery update = new UpdateQuery(e);
+        update.addValue(employeeStatus, Literal.of("BLOCKED"));
+        update.addValue(employeeStatusChangedAt, new FunctionCall("now"));
+        update.addCriteria(equal(e.get(employeeId), s.get(sessionEmployeeId)));
+        update.addCriteria(equal(s.get(sessionId), Literal.of(1)));
+
+        assertEquals("UPDATE employee e SET status = 'BLOCKED', status_changed_at = now() FROM session s "
+                + "WHERE e.id = s.employee_id AND s.id = 1", update.toString(SqlSyntax.DEFAULT_SQL_SYNTAX, true));
+    }
+
+    @Test
+    public void testDelete() {
+        Table employee = new Table("employee");
+        TableColumn employeeId = employee.get("id");
+
+        TableReference e = employee.refer();
+
+        DeleteQuery delete = new DeleteQuery(e);
+        delete.addCriteria(equal(e.get(employeeId), Literal.of(1)));
+
+        assertEquals("DELETE FROM employee e WHERE e.id = 1", delete.toString(SqlSyntax.DEFAULT_SQL_SYNTAX, true));
+        assertEquals("DELETE `e` FROM `employee` `e` WHERE `e`.`id` = 1",
+                delete.toString(SqlSyntax.MY_SQL_SYNTAX, true));
+    }
+}
@@ -15,8 +15,10 @@
  */
 package com.github.squigglesql.squigglesql;
 
+import com.github.squigglesql.squigglesql.exception.QueryCompilationException;
 import com.github.squigglesql.squigglesql.literal.Literal;
 import com.github.squigglesql.squigglesql.query.SelectQuery;
+import com.github.squigglesql.squigglesql.syntax.SqlSyntax;
 import org.junit.Test;
 
 import static com.github.squigglesql.squigglesql.criteria.Criteria.between;
@@ -45,6 +47,24 @@ public class FunctionsTest {
                 + "    table t", select.toString());
     }
 
+    @Test
+    public void testQuotedFunctions() {
+        SelectQuery select = new SelectQuery();
+
+        select.addToSelection(new FunctionCall("sheep"));
+        select.addToSelection(new FunctionCall("sheep", Literal.of(10)));
+
+        assertEquals("SELECT \"sheep\"(), \"sheep\"(10)", select.toString(SqlSyntax.POSTGRE_SQL_SYNTAX, true));
+        assertEquals("SELECT `sheep`(), `sheep`(10)", select.toString(SqlSyntax.MY_SQL_SYNTAX, true));
+    }
+
+    @Test(expected = QueryCompilationException.class)
+    public void testFunctionQuotationException() {
+        SelectQuery select = new SelectQuery();
+        select.addToSelection(new FunctionCall("she`ep"));
+        select.toString(SqlSyntax.MY_SQL_SYNTAX);
+    }
+
     @Test
     public void testFunctionsInCriteria() {
         Table card = new Table("credit_card");
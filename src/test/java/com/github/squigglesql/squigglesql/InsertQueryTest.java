@@ -26,6 +26,7 @@ import org.junit.Test;
 
 import java.sql.SQLException;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 
 public class InsertQueryTest {
@@ -75,4 +76,38 @@ public class InsertQueryTest {
             });
         });
     }
+
+    @Test
+    public void testGeneratedKeyColumns() throws SQLException {
+        Table employee = new Table("employee");
+        InsertQuery query = new InsertQuery(employee);
+        query.addValue(employee.get("name"), Parameter.of("John"));
+        query.setGeneratedKeyColumns(employee.get("id"));
+
+        MockStatement statement = query.toStatement(new MockStatementCompiler());
+        assertArrayEquals(new String[]{"id"}, statement.getKeyColumnNames());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testForeignGeneratedKeyColumnException() {
+        new InsertQuery(new Table("employee")).setGeneratedKeyColumns(new Table("department").get("id"));
+    }
+
+    @Test
+    public void testInsertGeneratedKey() throws Exception {
+        TestUtils.withDatabase((connection, database) -> {
+            TestUtils.withTable(connection, database, "employee", new TestDatabaseColumn[]{
+                    new TestDatabaseColumn("name", "TEXT", true, null)
+            }, () -> {
+                Table employee = new Table("employee");
+                for (int i = 1; i <= 2; ++i) {
+                    InsertQuery query = new InsertQuery(employee);
+                    query.addValue(employee.get("name"), Parameter.of("Employee " + i));
+                    query.setGeneratedKeyColumns(employee.get("id"));
+                    assertEquals((Integer) i, JdbcUtils.insert(query, connection, rs -> rs.getInt(1)));
+                }
+                return null;
+            });
+        });
+    }
 }
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2019-2020 Egor Nepomnyaschih and contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.squigglesql.squigglesql;
+
+import com.github.squigglesql.squigglesql.databases.TestDatabaseColumn;
+import com.github.squigglesql.squigglesql.parameter.Parameter;
+import com.github.squigglesql.squigglesql.query.CompiledQuery;
+import com.github.squigglesql.squigglesql.query.InsertQuery;
+import com.github.squigglesql.squigglesql.query.UpdateQuery;
+import com.github.squigglesql.squigglesql.syntax.SqlSyntax;
+import com.github.squigglesql.squigglesql.util.JdbcBatch;
+import com.github.squigglesql.squigglesql.util.JdbcUtils;
+import org.junit.Test;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static com.github.squigglesql.squigglesql.TestUtils.*;
+import static com.github.squigglesql.squigglesql.criteria.Criteria.greater;
+import static org.junit.Assert.assertEquals;
+
+public class JdbcBatchTest {
+
+    private static final Table TABLE = new Table("employee");
+    private static final TableColumn NAME = TABLE.get("name");
+    private static final TableColumn AGE = TABLE.get("age");
+
+    @Test
+    public void testInsertBatch() throws SQLException {
+        withContents((connection, database) -> {
+            CompiledQuery query = createInsertQuery().prepare(SqlSyntax.from(connection));
+            try (JdbcBatch<Integer> batch = new JdbcBatch<>(connection, query, 2, rs -> rs.getInt(1))) {
+                batch.add(Parameter.of("Aaron"), Parameter.of(20));
+                assertEquals(1, batch.getPendingCount());
+                batch.add(Parameter.of("Bob"), Parameter.of(30));
+                assertEquals(0, batch.getPendingCount());
+                batch.add(Parameter.of("Chris"), Parameter.of(22));
+                batch.flush();
+
+                assertEquals(3, batch.getUpdateCount());
+                assertEquals(Arrays.asList(1, 2, 3), batch.getKeys());
+            }
+        });
+    }
+
+    @Test
+    public void testUpdateBatch() throws SQLException {
+        withContents((connection, database) -> {
+            List<Parameter[]> rows = new ArrayList<>();
+            for (int i = 0; i < 5; ++i) {
+                rows.add(new Parameter[]{Parameter.of("Employee " + i), Parameter.of(20 + i)});
+            }
+            CompiledQuery insertQuery = createInsertQuery().prepare(SqlSyntax.from(connection));
+            assertEquals(Arrays.asList(1, 2, 3, 4, 5),
+                    JdbcUtils.insertBatch(insertQuery, connection, 2, rows, rs -> rs.getInt(1)));
+
+            TableReference ref = TABLE.refer();
+            UpdateQuery updateQuery = new UpdateQuery(ref);
+            updateQuery.addValue(AGE, Parameter.placeholder("age"));
+            updateQuery.addCriteria(greater(ref.get(AGE), Parameter.placeholder("min")));
+            CompiledQuery compiledQuery = updateQuery.prepare(SqlSyntax.from(connection));
+            assertEquals(7, JdbcUtils.updateBatch(compiledQuery, connection, 10, Arrays.asList(
+                    new Parameter[]{Parameter.of(50), Parameter.of(22)},
+                    new Parameter[]{Parameter.of(60), Parameter.of(0)})));
+        });
+    }
+
+    private static InsertQuery createInsertQuery() {
+        InsertQuery query = new InsertQuery(TABLE);
+        query.addValue(NAME, Parameter.placeholder("name"));
+        query.addValue(AGE, Parameter.placeholder("age"));
+        return query;
+    }
+
+    private static void withContents(Consumer consumer) throws SQLException {
+        withDatabase((connection, database) -> withTable(
+                connection, database, TABLE.getName(), new TestDatabaseColumn[]{
+                        new TestDatabaseColumn(NAME.getName(), "TEXT", true, null),
+                        new TestDatabaseColumn(AGE.getName(), "INTEGER", true, null)
+                },
+                () -> {
+                    consumer.accept(connection, database);
+                    return null;
+                }));
+    }
+}
@@ -0,0 +1,232 @@
+/*
+ * Copyright 2019-2020 Egor Nepomnyaschih and contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.squigglesql.squigglesql;
+
+import com.github.squigglesql.squigglesql.databases.TestDatabaseColumn;
+import com.github.squigglesql.squigglesql.parameter.Parameter;
+import com.github.squigglesql.squigglesql.query.CompiledQuery;
+import com.github.squigglesql.squigglesql.query.InsertQuery;
+import com.github.squigglesql.squigglesql.query.SelectQuery;
+import com.github.squigglesql.squigglesql.statement.JdbcStatementCache;
+import com.github.squigglesql.squigglesql.syntax.SqlSyntax;
+import com.github.squigglesql.squigglesql.util.JdbcBatch;
+import com.github.squigglesql.squigglesql.util.JdbcUtils;
+import org.junit.Test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static com.github.squigglesql.squigglesql.TestUtils.withDatabase;
+import static com.github.squigglesql.squigglesql.TestUtils.withTable;
+import static com.github.squigglesql.squigglesql.criteria.Criteria.greater;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class JdbcStatementCacheTest {
+
+    private static final Table EMPLOYEE = new Table("employee");
+    private static final TableColumn EMPLOYEE_NAME = EMPLOYEE.get("name");
+    private static final TableColumn EMPLOYEE_AGE = EMPLOYEE.get("age");
+
+    @Test
+    public void testCache() throws SQLException {
+        withContents(connection -> {
+            try (JdbcStatementCache cache = new JdbcStatementCache(connection, 2)) {
+                Connection cached = cache.getConnection();
+                assertEquals(Arrays.asList("Bob", "Chris"), select(cached, 25));
+                assertEquals(Collections.singletonList("Chris"), select(cached, 30));
+                assertEquals(1, cache.getMissCount());
+                assertEquals(1, cache.getHitCount());
+                assertEquals(1, cache.size());
+
+                insert(cached, "Dan", 40);
+                insert(cached, "Eve", 50);
+                assertEquals(2, cache.getMissCount());
+                assertEquals(2, cache.getHitCount());
+                assertEquals(2, cache.size());
+            }
+        });
+    }
+
+    @Test
+    public void testEviction() throws SQLException {
+        withContents(connection -> {
+            try (JdbcStatementCache cache = new JdbcStatementCache(connection, 1)) {
+                Connection cached = cache.getConnection();
+                PreparedStatement first = cached.prepareStatement("SELECT 1");
+                first.close();
+                cached.prepareStatement("SELECT 2").close();
+                cached.prepareStatement("SELECT 1").close();
+                assertEquals(3, cache.getMissCount());
+                assertEquals(0, cache.getHitCount());
+                assertEquals(1, cache.size());
+                assertTrue(first.isClosed());
+            }
+        });
+    }
+
+    @Test
+    public void testStatementInUse() throws SQLException {
+        withContents(connection -> {
+            try (JdbcStatementCache cache = new JdbcStatementCache(connection, 10)) {
+                Connection cached = cache.getConnection();
+                try (Stream<String> names = JdbcUtils.stream(createSelectQuery(20), cached,
+                        rs -> JdbcUtils.readString(rs, 1), 0)) {
+                    assertEquals(Arrays.asList("Aaron", "Bob", "Chris"), select(cached, 20));
+                    assertEquals(Arrays.asList("Aaron", "Bob", "Chris"), names.collect(Collectors.toList()));
+                }
+                assertEquals(2, cache.getMissCount());
+                assertEquals(1, cache.size());
+            }
+        });
+    }
+
+    @Test
+    public void testAbandonedBatch() throws SQLException {
+        withContents(connection -> {
+            try (JdbcStatementCache cache = new JdbcStatementCache(connection, 10)) {
+                Connection cached = cache.getConnection();
+                InsertQuery insert = new InsertQuery(EMPLOYEE);
+                insert.addValue(EMPLOYEE_NAME, Parameter.placeholder("name"));
+                insert.addValue(EMPLOYEE_AGE, Parameter.placeholder("age"));
+                CompiledQuery query = insert.prepare(SqlSyntax.from(cached));
+                try (JdbcBatch<Integer> batch = new JdbcBatch<>(cached, query, 10)) {
+                    batch.add(Parameter.of("Abandoned"), Parameter.of(66));
+                }
+                try (JdbcBatch<Integer> batch = new JdbcBatch<>(cached, query, 10)) {
+                    batch.add(Parameter.of("Dan"), Parameter.of(40));
+                    batch.flush();
+                    assertEquals(1, batch.getUpdateCount());
+                }
+                assertEquals(1, cache.getHitCount());
+                assertEquals(Arrays.asList("Bob", "Chris", "Dan"), select(cached, 25));
+            }
+        });
+    }
+
+    @Test
+    public void testRepeatedExecution() throws SQLException {
+        withContents(connection -> {
+            try (JdbcStatementCache cache = new JdbcStatementCache(connection, 10)) {
+                PreparedStatement statement = cache.getConnection().prepareStatement("SELECT 1");
+                ResultSet first = statement.executeQuery();
+                ResultSet last = null;
+                for (int i = 0; i < 100; ++i) {
+                    last = statement.executeQuery();
+                    assertTrue(last.next());
+                    assertEquals(1, last.getInt(1));
+                }
+                assertTrue(first.isClosed());
+                assertFalse(last.isClosed());
+
+                statement.close();
+                assertTrue(last.isClosed());
+                assertEquals(1, cache.size());
+            }
+        });
+    }
+
+    @Test
+    public void testStatementReset() throws SQLException {
+        withContents(connection -> {
+            try (JdbcStatementCache cache = new JdbcStatementCache(connection, 10)) {
+                Connection cached = cache.getConnection();
+                PreparedStatement statement = cached.prepareStatement("SELECT 1");
+                int queryTimeout = statement.getQueryTimeout();
+                statement.setMaxRows(1);
+                statement.setQueryTimeout(queryTimeout + 10);
+                ResultSet resultSet = statement.executeQuery();
+                statement.close();
+                assertTrue(resultSet.isClosed());
+
+                statement = cached.prepareStatement("SELECT 1");
+                assertEquals(1, cache.getHitCount());
+                assertEquals(0, statement.getMaxRows());
+                assertEquals(queryTimeout, statement.getQueryTimeout());
+                statement.setEscapeProcessing(false);
+                statement.close();
+                assertEquals(0, cache.size());
+            }
+        });
+    }
+
+    @Test
+    public void testConnectionClose() throws SQLException {
+        withContents(connection -> {
+            JdbcStatementCache cache = new JdbcStatementCache(connection, 10);
+            Connection cached = cache.getConnection();
+            PreparedStatement statement = cached.prepareStatement("SELECT 1");
+            PreparedStatement raw = statement.unwrap(PreparedStatement.class);
+            statement.close();
+            assertFalse(raw.isClosed());
+            cache.clear();
+            assertTrue(raw.isClosed());
+            assertEquals(0, cache.size());
+        });
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNullConnectionException() {
+        new JdbcStatementCache(null, 10);
+    }
+
+    private static List<String> select(Connection connection, int minAge) throws SQLException {
+        return JdbcUtils.selectAll(createSelectQuery(minAge), connection, rs -> JdbcUtils.readString(rs, 1));
+    }
+
+    private static SelectQuery createSelectQuery(int minAge) {
+        TableReference e = EMPLOYEE.refer();
+        SelectQuery select = new SelectQuery();
+        select.addToSelection(e.get(EMPLOYEE_NAME));
+        select.addCriteria(greater(e.get(EMPLOYEE_AGE), Parameter.of(minAge)));
+        select.addOrder(e.get(EMPLOYEE_NAME), Order.ASCENDING);
+        return select;
+    }
+
+    private static void insert(Connection connection, String name, int age) throws SQLException {
+        InsertQuery insert = new InsertQuery(EMPLOYEE);
+        insert.addValue(EMPLOYEE_NAME, Parameter.of(name));
+        insert.addValue(EMPLOYEE_AGE, Parameter.of(age));
+        JdbcUtils.insert(insert, connection, rs -> rs.getInt(1));
+    }
+
+    private interface Consumer {
+        void accept(Connection connection) throws SQLException;
+    }
+
+    private static void withContents(Consumer consumer) throws SQLException {
+        withDatabase((connection, database) -> withTable(
+                connection, database, EMPLOYEE.getName(), new TestDatabaseColumn[]{
+                        new TestDatabaseColumn(EMPLOYEE_NAME.getName(), "TEXT", true, null),
+                        new TestDatabaseColumn(EMPLOYEE_AGE.getName(), "INTEGER", true, null)
+                },
+                () -> {
+                    insert(connection, "Aaron", 21);
+                    insert(connection, "Bob", 28);
+                    insert(connection, "Chris", 35);
+                    consumer.accept(connection);
+                    return null;
+                }));
+    }
+}
@@ -24,20 +24,29 @@ import com.github.squigglesql.squigglesql.query.InsertQuery;
 import com.github.squigglesql.squigglesql.query.ResultColumn;
 import com.github.squigglesql.squigglesql.query.SelectQuery;
 import com.github.squigglesql.squigglesql.query.UpdateQuery;
+import com.github.squigglesql.squigglesql.statement.JdbcStatementCompiler;
 import com.github.squigglesql.squigglesql.util.JdbcUtils;
 import com.github.squigglesql.squigglesql.util.TooManyRecordsException;
 import org.junit.Test;
 
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
 import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 import java.util.function.BiConsumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static com.github.squigglesql.squigglesql.TestUtils.*;
 import static com.github.squigglesql.squigglesql.criteria.Criteria.equal;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNull;
 
 public class JdbcTest {
@@ -96,6 +105,22 @@ public class JdbcTest {
         });
     }
 
+    @Test
+    public void testStream() throws SQLException {
+        withContents((connection, database) -> {
+            SelectQuery query = new SelectQuery();
+            ResultMapper<Employee> mapper = addToQuery(query);
+            List<Employee> actual;
+            try (Stream<Employee> stream = JdbcUtils.stream(query, connection, mapper, 1)) {
+                actual = stream.collect(Collectors.toList());
+            }
+            List<Employee> expected = new ArrayList<>();
+            expected.add(AARON);
+            expected.add(BOB);
+            assertEquals(expected, actual);
+        });
+    }
+
     @Test
     public void testUpdate() throws SQLException {
         withContents((connection, database) -> {
@@ -156,6 +181,43 @@ public class JdbcTest {
         }));
     }
 
+    @Test
+    public void testStatementHints() throws SQLException {
+        withContents((connection, database) -> {
+            List<Integer> argumentCounts = new ArrayList<>();
+            Connection recorder = (Connection) Proxy.newProxyInstance(JdbcTest.class.getClassLoader(),
+                    new Class<?>[]{Connection.class}, (proxy, method, args) -> {
+                        if (method.getName().equals("prepareStatement")) {
+                            argumentCounts.add(args.length);
+                        }
+                        try {
+                            return method.invoke(connection, args);
+                        } catch (InvocationTargetException e) {
+                            throw e.getCause();
+                        }
+                    });
+
+            TableReference ref = TABLE.refer();
+            UpdateQuery updateQuery = new UpdateQuery(ref);
+            updateQuery.addValue(AGE, Parameter.of(BOB_GROWN.getAge()));
+            assertEquals(2, JdbcUtils.update(updateQuery, recorder));
+
+            SelectQuery selectQuery = new SelectQuery();
+            addToQuery(selectQuery);
+            try (PreparedStatement statement = selectQuery.toStatement(new JdbcStatementCompiler(recorder, 1))) {
+                assertEquals(1, statement.getFetchSize());
+            }
+            try (PreparedStatement statement = updateQuery.toStatement(new JdbcStatementCompiler(recorder, 1))) {
+                assertNotEquals(1, statement.getFetchSize());
+            }
+            try (PreparedStatement statement = selectQuery.toStatement(new JdbcStatementCompiler(
+                    recorder, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY, 0))) {
+                assertEquals(ResultSet.TYPE_FORWARD_ONLY, statement.getResultSetType());
+            }
+            assertEquals(Arrays.asList(1, 1, 1, 3), argumentCounts);
+        });
+    }
+
     private static void withContents(Consumer consumer) throws SQLException {
         withDatabase((connection, database) -> withTable(
                 connection, database, TABLE.getName(), new TestDatabaseColumn[]{
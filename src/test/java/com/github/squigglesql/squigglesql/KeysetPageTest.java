@@ -0,0 +1,151 @@
+/*
+ * Copyright 2019-2020 Egor Nepomnyaschih and contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.squigglesql.squigglesql;
+
+import com.github.squigglesql.squigglesql.criteria.Criteria;
+import com.github.squigglesql.squigglesql.databases.TestDatabaseColumn;
+import com.github.squigglesql.squigglesql.mock.MockStatement;
+import com.github.squigglesql.squigglesql.mock.MockStatementCompiler;
+import com.github.squigglesql.squigglesql.parameter.Parameter;
+import com.github.squigglesql.squigglesql.query.InsertQuery;
+import com.github.squigglesql.squigglesql.query.ResultColumn;
+import com.github.squigglesql.squigglesql.query.SelectQuery;
+import com.github.squigglesql.squigglesql.syntax.SqlSyntax;
+import com.github.squigglesql.squigglesql.util.JdbcUtils;
+import org.junit.Test;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+public class KeysetPageTest {
+
+    private static final Table EMPLOYEE = new Table("employee");
+    private static final TableColumn EMPLOYEE_ID = EMPLOYEE.get("id");
+    private static final TableColumn EMPLOYEE_NAME = EMPLOYEE.get("name");
+    private static final TableColumn EMPLOYEE_AGE = EMPLOYEE.get("age");
+
+    @Test
+    public void testFirstPage() {
+        TableReference e = EMPLOYEE.refer();
+
+        SelectQuery select = new SelectQuery();
+        select.addToSelection(e.get(EMPLOYEE_NAME));
+        select.addOrder(e.get(EMPLOYEE_ID), Order.ASCENDING);
+        select.setKeysetPage(Parameter.of(10));
+
+        assertEquals("SELECT\n"
+                + "    e.name\n"
+                + "FROM\n"
+                + "    employee e\n"
+                + "ORDER BY\n"
+                + "    e.id\n"
+                + "FETCH FIRST ? ROWS ONLY", select.toString());
+        assertEquals("SELECT\n"
+                + "    \"e\".\"name\"\n"
+                + "FROM\n"
+                + "    \"employee\" \"e\"\n"
+                + "ORDER BY\n"
+                + "    \"e\".\"id\"\n"
+                + "LIMIT ?", select.toString(SqlSyntax.POSTGRE_SQL_SYNTAX));
+    }
+
+    @Test
+    public void testNextPage() throws SQLException {
+        TableReference e = EMPLOYEE.refer();
+
+        SelectQuery select = new SelectQuery();
+        select.addToSelection(e.get(EMPLOYEE_NAME));
+        ResultColumn age = select.addToSelection(e.get(EMPLOYEE_AGE));
+        select.addCriteria(Criteria.isNotNull(e.get(EMPLOYEE_NAME)));
+        select.addOrder(age, Order.DESCENDING);
+        select.addOrder(e.get(EMPLOYEE_ID), Order.ASCENDING);
+        select.setKeysetPage(Parameter.of(10), Parameter.of(30), Parameter.of(5));
+
+        MockStatement statement = select.toStatement(new MockStatementCompiler());
+        assertEquals("SELECT\n"
+                + "    e.name,\n"
+                + "    e.age as a\n"
+                + "FROM\n"
+                + "    employee e\n"
+                + "WHERE\n"
+                + "    e.name IS NOT NULL AND\n"
+                + "    (\n"
+                + "        e.age < ? OR\n"
+                + "        (\n"
+                + "            e.age = ? AND\n"
+                + "            e.id > ?\n"
+                + "        )\n"
+                + "    )\n"
+                + "ORDER BY\n"
+                + "    a DESC,\n"
+                + "    e.id\n"
+                + "FETCH FIRST ? ROWS ONLY", statement.getQuery());
+        assertEquals(Arrays.asList(30, 30, 5, 10), statement.getParameters());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testWrongKeySize() {
+        TableReference e = EMPLOYEE.refer();
+
+        SelectQuery select = new SelectQuery();
+        select.addToSelection(e.get(EMPLOYEE_NAME));
+        select.addOrder(e.get(EMPLOYEE_ID), Order.ASCENDING);
+        select.setKeysetPage(Parameter.of(10), Parameter.of(1), Parameter.of(2));
+        select.toString();
+    }
+
+    @Test
+    public void testPagination() throws SQLException {
+        TestUtils.withDatabase((connection, database) -> {
+            TestUtils.withTable(connection, database, EMPLOYEE.getName(), new TestDatabaseColumn[]{
+                    new TestDatabaseColumn(EMPLOYEE_NAME.getName(), "TEXT", true, null),
+                    new TestDatabaseColumn(EMPLOYEE_AGE.getName(), "INTEGER", true, null)
+            }, () -> {
+                String[] names = {"Aaron", "Bob", "Chris", "Dan", "Eve"};
+                int[] ages = {30, 20, 30, 40, 20};
+                for (int i = 0; i < names.length; ++i) {
+                    InsertQuery insert = new InsertQuery(EMPLOYEE);
+                    insert.addValue(EMPLOYEE_NAME, Parameter.of(names[i]));
+                    insert.addValue(EMPLOYEE_AGE, Parameter.of(ages[i]));
+                    JdbcUtils.insert(insert, connection, rs -> rs.getInt(1));
+                }
+
+                assertEquals(Arrays.asList("Dan", "Aaron"), selectPage(connection));
+                assertEquals(Arrays.asList("Chris", "Bob"), selectPage(connection, 30, 1));
+                assertEquals(Arrays.asList("Eve"), selectPage(connection, 20, 2));
+                assertEquals(Arrays.asList(), selectPage(connection, 20, 5));
+                return null;
+            });
+        });
+    }
+
+    private static List<String> selectPage(Connection connection, int... lastKey) throws SQLException {
+        TableReference e = EMPLOYEE.refer();
+
+        SelectQuery select = new SelectQuery();
+        ResultColumn name = select.addToSelection(e.get(EMPLOYEE_NAME));
+        select.addOrder(e.get(EMPLOYEE_AGE), Order.DESCENDING);
+        select.addOrder(e.get(EMPLOYEE_ID), Order.ASCENDING);
+        Matchable[] key = Arrays.stream(lastKey).mapToObj(Parameter::of).toArray(Matchable[]::new);
+        select.setKeysetPage(Parameter.of(2), key);
+
+        return JdbcUtils.selectAll(select, connection, rs -> JdbcUtils.readString(rs, name.getIndex()));
+    }
+}
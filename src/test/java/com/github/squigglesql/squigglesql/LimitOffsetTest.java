@@ -0,0 +1,117 @@
+/*
+ * Copyright 2019-2020 Egor Nepomnyaschih and contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.squigglesql.squigglesql;
+
+import com.github.squigglesql.squigglesql.databases.TestDatabaseColumn;
+import com.github.squigglesql.squigglesql.literal.Literal;
+import com.github.squigglesql.squigglesql.parameter.Parameter;
+import com.github.squigglesql.squigglesql.query.InsertQuery;
+import com.github.squigglesql.squigglesql.query.SelectQuery;
+import com.github.squigglesql.squigglesql.syntax.SqlSyntax;
+import com.github.squigglesql.squigglesql.util.JdbcUtils;
+import org.junit.Test;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+public class LimitOffsetTest {
+
+    private static final Table EMPLOYEE = new Table("employee");
+    private static final TableColumn EMPLOYEE_ID = EMPLOYEE.get("id");
+    private static final TableColumn EMPLOYEE_NAME = EMPLOYEE.get("name");
+
+    @Test
+    public void testLimitOffset() {
+        SelectQuery select = createQuery(Parameter.of(10), Parameter.of(20));
+
+        assertEquals("SELECT e.name FROM employee e ORDER BY e.id OFFSET ? ROWS FETCH FIRST ? ROWS ONLY",
+                select.toString(SqlSyntax.DEFAULT_SQL_SYNTAX, true));
+        assertEquals("SELECT \"e\".\"name\" FROM \"employee\" \"e\" ORDER BY \"e\".\"id\" LIMIT ? OFFSET ?",
+                select.toString(SqlSyntax.POSTGRE_SQL_SYNTAX, true));
+        assertEquals("SELECT \"e\".\"name\" FROM \"employee\" \"e\" ORDER BY \"e\".\"id\" LIMIT ? OFFSET ?",
+                select.toString(SqlSyntax.H2_SQL_SYNTAX, true));
+        assertEquals("SELECT `e`.`name` FROM `employee` `e` ORDER BY `e`.`id` LIMIT ? OFFSET ?",
+                select.toString(SqlSyntax.MY_SQL_SYNTAX, true));
+    }
+
+    @Test
+    public void testLimit() {
+        SelectQuery select = createQuery(Literal.of(10), null);
+
+        assertEquals("SELECT\n"
+                + "    e.name\n"
+                + "FROM\n"
+                + "    employee e\n"
+                + "ORDER BY\n"
+                + "    e.id\n"
+                + "FETCH FIRST 10 ROWS ONLY", select.toString());
+        assertEquals("SELECT `e`.`name` FROM `employee` `e` ORDER BY `e`.`id` LIMIT 10",
+                select.toString(SqlSyntax.MY_SQL_SYNTAX, true));
+    }
+
+    @Test
+    public void testOffset() {
+        SelectQuery select = createQuery(null, Parameter.of(20));
+
+        assertEquals("SELECT e.name FROM employee e ORDER BY e.id OFFSET ? ROWS",
+                select.toString(SqlSyntax.DEFAULT_SQL_SYNTAX, true));
+        assertEquals("SELECT \"e\".\"name\" FROM \"employee\" \"e\" ORDER BY \"e\".\"id\" OFFSET ?",
+                select.toString(SqlSyntax.POSTGRE_SQL_SYNTAX, true));
+        assertEquals("SELECT `e`.`name` FROM `employee` `e` ORDER BY `e`.`id` LIMIT 18446744073709551615 OFFSET ?",
+                select.toString(SqlSyntax.MY_SQL_SYNTAX, true));
+    }
+
+    @Test
+    public void testSelect() throws SQLException {
+        TestUtils.withDatabase((connection, database) -> {
+            TestUtils.withTable(connection, database, EMPLOYEE.getName(), new TestDatabaseColumn[]{
+                    new TestDatabaseColumn(EMPLOYEE_NAME.getName(), "TEXT", true, null)
+            }, () -> {
+                for (String name : new String[]{"Aaron", "Bob", "Chris", "Dan", "Eve"}) {
+                    InsertQuery insert = new InsertQuery(EMPLOYEE);
+                    insert.addValue(EMPLOYEE_NAME, Parameter.of(name));
+                    JdbcUtils.insert(insert, connection, rs -> rs.getInt(1));
+                }
+
+                assertEquals(Arrays.asList("Aaron", "Bob"), select(connection, Parameter.of(2), null));
+                assertEquals(Arrays.asList("Chris", "Dan"), select(connection, Parameter.of(2), Parameter.of(2)));
+                assertEquals(Arrays.asList("Dan", "Eve"), select(connection, null, Parameter.of(3)));
+                return null;
+            });
+        });
+    }
+
+    private static List<String> select(Connection connection, Matchable limit, Matchable offset)
+            throws SQLException {
+        SelectQuery select = createQuery(limit, offset);
+        return JdbcUtils.selectAll(select, connection, rs -> JdbcUtils.readString(rs, 1));
+    }
+
+    private static SelectQuery createQuery(Matchable limit, Matchable offset) {
+        TableReference e = EMPLOYEE.refer();
+
+        SelectQuery select = new SelectQuery();
+        select.addToSelection(e.get(EMPLOYEE_NAME));
+        select.addOrder(e.get(EMPLOYEE_ID), Order.ASCENDING);
+        select.setLimit(limit);
+        select.setOffset(offset);
+        return select;
+    }
+}
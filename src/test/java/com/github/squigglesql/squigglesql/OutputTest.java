@@ -0,0 +1,76 @@
+/*
+ * Copyright 2019-2020 Egor Nepomnyaschih and contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.squigglesql.squigglesql;
+
+import com.github.squigglesql.squigglesql.syntax.SqlSyntax;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class OutputTest {
+
+    @Test
+    public void testIndentation() {
+        Output output = new Output(SqlSyntax.DEFAULT_SQL_SYNTAX, "\t");
+        output.write("a");
+        for (int i = 0; i < 3; ++i) {
+            output.indent();
+            output.writeln();
+            output.write("b");
+        }
+        for (int i = 0; i < 3; ++i) {
+            output.unindent();
+            output.writeln();
+            output.write("c");
+        }
+        assertEquals("a\n\tb\n\t\tb\n\t\t\tb\n\t\tc\n\tc\nc", output.toString());
+    }
+
+    @Test
+    public void testDeepIndentation() {
+        Output output = new Output(SqlSyntax.DEFAULT_SQL_SYNTAX);
+        for (int i = 0; i < 20; ++i) {
+            output.indent();
+        }
+        output.writeln();
+        output.write("a");
+        assertEquals("\n" + new String(new char[80]).replace('\0', ' ') + "a", output.toString());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testUnindentUnderflow() {
+        new Output(SqlSyntax.DEFAULT_SQL_SYNTAX).unindent();
+    }
+
+    @Test
+    public void testBorrow() {
+        Output first = Output.borrow(SqlSyntax.DEFAULT_SQL_SYNTAX, Output.DEFAULT_INDENT);
+        first.write("first");
+        assertEquals("first", first.toString());
+
+        Output nested = Output.borrow(SqlSyntax.DEFAULT_SQL_SYNTAX, Output.DEFAULT_INDENT);
+        nested.write("nested");
+        assertEquals("nested", nested.toString());
+        assertEquals("first", first.toString());
+        nested.release();
+        first.release();
+
+        Output second = Output.borrow(SqlSyntax.DEFAULT_SQL_SYNTAX, Output.DEFAULT_INDENT);
+        second.write("second");
+        assertEquals("second", second.toString());
+        second.release();
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2019-2020 Egor Nepomnyaschih and contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.squigglesql.squigglesql;
+
+import com.github.squigglesql.squigglesql.mock.MockStatement;
+import com.github.squigglesql.squigglesql.mock.MockStatementCompiler;
+import com.github.squigglesql.squigglesql.parameter.Parameter;
+import com.github.squigglesql.squigglesql.query.PreparedTemplate;
+import com.github.squigglesql.squigglesql.query.SelectQuery;
+import com.github.squigglesql.squigglesql.syntax.SqlSyntax;
+import org.junit.Test;
+
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static com.github.squigglesql.squigglesql.criteria.Criteria.equal;
+import static com.github.squigglesql.squigglesql.criteria.Criteria.greater;
+import static com.github.squigglesql.squigglesql.criteria.Criteria.or;
+import static org.junit.Assert.assertEquals;
+
+public class PreparedTemplateTest {
+
+    @Test
+    public void testNamedPlaceholders() throws SQLException {
+        Table employee = new Table("employee");
+        TableColumn employeeFirstName = employee.get("first_name");
+        TableColumn employeeLastName = employee.get("last_name");
+        TableColumn employeeAge = employee.get("age");
+
+        TableReference e = employee.refer();
+
+        SelectQuery select = new SelectQuery();
+        select.addToSelection(e.get(employeeAge));
+        select.addCriteria(or(
+                equal(e.get(employeeFirstName), Parameter.placeholder("name")),
+                equal(e.get(employeeLastName), Parameter.placeholder("name"))));
+        select.addCriteria(greater(e.get(employeeAge), Parameter.of(18)));
+
+        PreparedTemplate template = select.prepare(SqlSyntax.DEFAULT_SQL_SYNTAX);
+        assertEquals(3, template.getSlotCount());
+        assertEquals(Collections.singleton("name"), template.getPlaceholderNames());
+
+        MockStatement statement = template.bind()
+                .set("name", Parameter.of("Smith"))
+                .toStatement(new MockStatementCompiler());
+        assertEquals("SELECT\n"
+                + "    e.age\n"
+                + "FROM\n"
+                + "    employee e\n"
+                + "WHERE\n"
+                + "    (\n"
+                + "        e.first_name = ? OR\n"
+                + "        e.last_name = ?\n"
+                + "    ) AND\n"
+                + "    e.age > ?", statement.getQuery());
+        assertEquals(Arrays.asList("Smith", "Smith", 18), statement.getParameters());
+
+        statement = template.bind()
+                .set("name", Parameter.of("John"))
+                .set(2, Parameter.of(21))
+                .toStatement(new MockStatementCompiler());
+        assertEquals(Arrays.asList("John", "John", 21), statement.getParameters());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testUnboundPlaceholder() throws SQLException {
+        Table employee = new Table("employee");
+        TableColumn employeeName = employee.get("name");
+
+        SelectQuery select = new SelectQuery();
+        select.addCriteria(equal(employee.refer().get(employeeName), Parameter.placeholder("name")));
+
+        select.prepare(SqlSyntax.DEFAULT_SQL_SYNTAX).bind().toStatement(new MockStatementCompiler());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testUnknownPlaceholder() {
+        Table employee = new Table("employee");
+        TableColumn employeeName = employee.get("name");
+
+        SelectQuery select = new SelectQuery();
+        select.addCriteria(equal(employee.refer().get(employeeName), Parameter.placeholder("name")));
+
+        select.prepare(SqlSyntax.DEFAULT_SQL_SYNTAX).bind().set("age", Parameter.of(18));
+    }
+}
@@ -0,0 +1,202 @@
+/*
+ * Copyright 2019-2020 Egor Nepomnyaschih and contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.squigglesql.squigglesql;
+
+import com.github.squigglesql.squigglesql.mock.MockStatement;
+import com.github.squigglesql.squigglesql.mock.MockStatementCompiler;
+import com.github.squigglesql.squigglesql.parameter.Parameter;
+import com.github.squigglesql.squigglesql.query.CompiledQuery;
+import com.github.squigglesql.squigglesql.query.InsertQuery;
+import com.github.squigglesql.squigglesql.query.PreparedTemplate;
+import com.github.squigglesql.squigglesql.query.QueryCache;
+import com.github.squigglesql.squigglesql.query.SelectQuery;
+import com.github.squigglesql.squigglesql.syntax.SqlSyntax;
+import org.junit.Test;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.github.squigglesql.squigglesql.criteria.Criteria.greater;
+import static com.github.squigglesql.squigglesql.criteria.Criteria.less;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+public class QueryCacheTest {
+
+    private static final Object SELECT_BY_AGE = new Object();
+
+    private static final Table EMPLOYEE = new Table("employee");
+    private static final TableColumn EMPLOYEE_NAME = EMPLOYEE.get("name");
+    private static final TableColumn EMPLOYEE_AGE = EMPLOYEE.get("age");
+
+    @Test
+    public void testCompiledQuery() throws SQLException {
+        QueryCache cache = new QueryCache();
+        AtomicInteger builds = new AtomicInteger();
+
+        CompiledQuery query = cache.get(SELECT_BY_AGE, SqlSyntax.DEFAULT_SQL_SYNTAX, () -> {
+            builds.incrementAndGet();
+            return selectByAge(20, 30);
+        });
+        assertEquals(2, query.getSlotCount());
+
+        MockStatement statement = query.toStatement(new MockStatementCompiler(), Parameter.of(20), Parameter.of(30));
+        assertEquals("SELECT\n"
+                + "    e.name\n"
+                + "FROM\n"
+                + "    employee e\n"
+                + "WHERE\n"
+                + "    e.age > ? AND\n"
+                + "    e.age < ?", statement.getQuery());
+        assertEquals(Arrays.asList(20, 30), statement.getParameters());
+
+        CompiledQuery cached = cache.get(SELECT_BY_AGE, SqlSyntax.DEFAULT_SQL_SYNTAX, () -> {
+            builds.incrementAndGet();
+            return selectByAge(40, 50);
+        });
+        assertSame(query, cached);
+        assertEquals(1, builds.get());
+        assertEquals(1, cache.size());
+
+        statement = cached.toStatement(new MockStatementCompiler(), Parameter.of(40), Parameter.of(50));
+        assertEquals(query.getSql(), statement.getQuery());
+        assertEquals(Arrays.asList(40, 50), statement.getParameters());
+    }
+
+    @Test
+    public void testSyntaxes() {
+        QueryCache cache = new QueryCache();
+
+        CompiledQuery defaultQuery = cache.get(SELECT_BY_AGE, SqlSyntax.DEFAULT_SQL_SYNTAX, () -> selectByAge(0, 0));
+        CompiledQuery postgreQuery = cache.get(SELECT_BY_AGE, SqlSyntax.POSTGRE_SQL_SYNTAX, () -> selectByAge(0, 0));
+
+        assertEquals(2, cache.size());
+        assertEquals("SELECT\n"
+                + "    \"e\".\"name\"\n"
+                + "FROM\n"
+                + "    \"employee\" \"e\"\n"
+                + "WHERE\n"
+                + "    \"e\".\"age\" > ? AND\n"
+                + "    \"e\".\"age\" < ?", postgreQuery.getSql());
+        assertSame(defaultQuery, cache.get(SELECT_BY_AGE, SqlSyntax.DEFAULT_SQL_SYNTAX, () -> selectByAge(0, 0)));
+
+        cache.clear();
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void testCapacity() {
+        QueryCache cache = new QueryCache(1);
+
+        CompiledQuery first = cache.get("first", SqlSyntax.DEFAULT_SQL_SYNTAX, () -> selectByAge(0, 0));
+        CompiledQuery second = cache.get("second", SqlSyntax.DEFAULT_SQL_SYNTAX, () -> selectByAge(0, 0));
+
+        assertEquals(1, cache.size());
+        assertSame(first, cache.get("first", SqlSyntax.DEFAULT_SQL_SYNTAX, () -> selectByAge(0, 0)));
+        assertEquals(second.getSql(), cache.get("second", SqlSyntax.DEFAULT_SQL_SYNTAX,
+                () -> selectByAge(0, 0)).getSql());
+    }
+
+    @Test
+    public void testConcurrentCapacity() throws InterruptedException {
+        QueryCache cache = new QueryCache(4);
+        CountDownLatch start = new CountDownLatch(1);
+
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < 16; ++i) {
+            int shape = i;
+            Thread thread = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                for (int j = 0; j < 100; ++j) {
+                    cache.get(shape * 100 + j, SqlSyntax.DEFAULT_SQL_SYNTAX, () -> selectByAge(0, 0));
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(4, cache.size());
+    }
+
+    @Test
+    public void testGeneratedKeyColumns() throws SQLException {
+        QueryCache cache = new QueryCache();
+        CompiledQuery query = cache.get("insert", SqlSyntax.DEFAULT_SQL_SYNTAX, () -> {
+            InsertQuery insert = new InsertQuery(EMPLOYEE);
+            insert.addValue(EMPLOYEE_NAME, Parameter.of("John"));
+            insert.setGeneratedKeyColumns(EMPLOYEE.get("id"));
+            return insert;
+        });
+
+        MockStatement statement = query.toStatement(new MockStatementCompiler(), Parameter.of("Mary"));
+        assertArrayEquals(new String[]{"id"}, statement.getKeyColumnNames());
+        assertEquals(Arrays.asList("Mary"), statement.getParameters());
+    }
+
+    @Test
+    public void testStaleParameters() throws SQLException {
+        PreparedTemplate template = getCachedTemplate();
+        MockStatement statement = template.bind().set(0, Parameter.of(40)).set(1, Parameter.of(50))
+                .toStatement(new MockStatementCompiler());
+        assertEquals(Arrays.asList(40, 50), statement.getParameters());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testStaleParametersException() throws SQLException {
+        getCachedTemplate().toStatement(new MockStatementCompiler());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testUnboundSlotException() throws SQLException {
+        getCachedTemplate().bind().set(0, Parameter.of(40)).toStatement(new MockStatementCompiler());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testWrongParameterCount() throws SQLException {
+        QueryCache cache = new QueryCache();
+        CompiledQuery query = cache.get(SELECT_BY_AGE, SqlSyntax.DEFAULT_SQL_SYNTAX, () -> selectByAge(0, 0));
+        query.toStatement(new MockStatementCompiler(), Parameter.of(1));
+    }
+
+    private static PreparedTemplate getCachedTemplate() {
+        QueryCache cache = new QueryCache();
+        cache.get(SELECT_BY_AGE, SqlSyntax.DEFAULT_SQL_SYNTAX, () -> selectByAge(20, 30));
+        return cache.get(SELECT_BY_AGE, SqlSyntax.DEFAULT_SQL_SYNTAX, () -> selectByAge(40, 50));
+    }
+
+    private static SelectQuery selectByAge(int minAge, int maxAge) {
+        TableReference e = EMPLOYEE.refer();
+
+        SelectQuery select = new SelectQuery();
+        select.addToSelection(e.get(EMPLOYEE_NAME));
+        select.addCriteria(greater(e.get(EMPLOYEE_AGE), Parameter.of(minAge)));
+        select.addCriteria(less(e.get(EMPLOYEE_AGE), Parameter.of(maxAge)));
+        return select;
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright 2019-2020 Egor Nepomnyaschih and contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.squigglesql.squigglesql;
+
+import com.github.squigglesql.squigglesql.databases.TestDatabaseColumn;
+import com.github.squigglesql.squigglesql.exception.QueryCompilationException;
+import com.github.squigglesql.squigglesql.literal.Literal;
+import com.github.squigglesql.squigglesql.parameter.Parameter;
+import com.github.squigglesql.squigglesql.query.BatchInsertQuery;
+import com.github.squigglesql.squigglesql.query.DeleteQuery;
+import com.github.squigglesql.squigglesql.query.InsertQuery;
+import com.github.squigglesql.squigglesql.query.ResultColumn;
+import com.github.squigglesql.squigglesql.query.UpdateQuery;
+import com.github.squigglesql.squigglesql.syntax.SqlSyntax;
+import com.github.squigglesql.squigglesql.util.JdbcUtils;
+import org.junit.Test;
+
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static com.github.squigglesql.squigglesql.criteria.Criteria.equal;
+import static com.github.squigglesql.squigglesql.criteria.Criteria.greater;
+import static org.junit.Assert.assertEquals;
+
+public class ReturningTest {
+
+    private static final Table EMPLOYEE = new Table("employee");
+    private static final TableColumn EMPLOYEE_ID = EMPLOYEE.get("id");
+    private static final TableColumn EMPLOYEE_NAME = EMPLOYEE.get("name");
+    private static final TableColumn EMPLOYEE_AGE = EMPLOYEE.get("age");
+
+    @Test
+    public void testInsertReturning() {
+        TableReference e = EMPLOYEE.refer();
+        InsertQuery insert = new InsertQuery(EMPLOYEE);
+        insert.addValue(EMPLOYEE_NAME, Parameter.of("Homer"));
+        insert.addToReturning(e.get(EMPLOYEE_ID));
+
+        assertEquals("INSERT INTO \"employee\"(\"name\") VALUES (?) RETURNING \"employee\".\"id\"",
+                insert.toString(SqlSyntax.POSTGRE_SQL_SYNTAX, true));
+        assertEquals("SELECT \"employee\".\"id\" FROM FINAL TABLE (INSERT INTO \"employee\"(\"name\") VALUES (?)) "
+                + "\"employee\"", insert.toString(SqlSyntax.H2_SQL_SYNTAX, true));
+    }
+
+    @Test
+    public void testUpdateReturning() {
+        UpdateQuery update = createUpdateQuery();
+
+        assertEquals("UPDATE \"employee\" \"e\" SET \"age\" = ? WHERE \"e\".\"name\" = ? "
+                + "RETURNING \"e\".\"id\", \"e\".\"age\"", update.toString(SqlSyntax.POSTGRE_SQL_SYNTAX, true));
+        assertEquals("SELECT\n"
+                + "    e.id,\n"
+                + "    e.age\n"
+                + "FROM FINAL TABLE (\n"
+                + "    UPDATE employee e SET\n"
+                + "        age = ?\n"
+                + "    WHERE\n"
+                + "        e.name = ?\n"
+                + ") e", update.toString());
+    }
+
+    @Test
+    public void testDeleteReturning() {
+        TableReference e = EMPLOYEE.refer();
+        DeleteQuery delete = new DeleteQuery(e);
+        delete.addCriteria(greater(e.get(EMPLOYEE_AGE), Literal.of(30)));
+        delete.addToReturning(e.get(EMPLOYEE_NAME));
+
+        assertEquals("DELETE FROM \"employee\" \"e\" WHERE \"e\".\"age\" > 30 RETURNING \"e\".\"name\"",
+                delete.toString(SqlSyntax.POSTGRE_SQL_SYNTAX, true));
+        assertEquals("SELECT \"e\".\"name\" FROM OLD TABLE (DELETE FROM \"employee\" \"e\" WHERE \"e\".\"age\" > 30) "
+                + "\"e\"", delete.toString(SqlSyntax.H2_SQL_SYNTAX, true));
+    }
+
+    @Test(expected = QueryCompilationException.class)
+    public void testMySqlReturningException() {
+        createUpdateQuery().toString(SqlSyntax.MY_SQL_SYNTAX, true);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testForeignReferenceException() {
+        TableReference e = EMPLOYEE.refer();
+        DeleteQuery delete = new DeleteQuery(e);
+        delete.addToReturning(EMPLOYEE.refer().get(EMPLOYEE_NAME));
+        delete.toString();
+    }
+
+    @Test
+    public void testReturning() throws SQLException {
+        TestUtils.withDatabase((connection, database) -> {
+            if (SqlSyntax.from(connection) == SqlSyntax.MY_SQL_SYNTAX) {
+                return;
+            }
+            TestUtils.withTable(connection, database, EMPLOYEE.getName(), new TestDatabaseColumn[]{
+                    new TestDatabaseColumn(EMPLOYEE_NAME.getName(), "TEXT", true, null),
+                    new TestDatabaseColumn(EMPLOYEE_AGE.getName(), "INTEGER", true, null)
+            }, () -> {
+                TableReference r = EMPLOYEE.refer();
+                BatchInsertQuery insert = new BatchInsertQuery(EMPLOYEE, EMPLOYEE_NAME, EMPLOYEE_AGE);
+                insert.addRow(Parameter.of("Homer"), Parameter.of(40));
+                insert.addRow(Parameter.of("Marge"), Parameter.of(38));
+                ResultColumn id = insert.addToReturning(r.get(EMPLOYEE_ID));
+                assertEquals(Arrays.asList(1, 2), JdbcUtils.selectAll(insert, connection,
+                        rs -> JdbcUtils.readIntegerNotNull(rs, id.getIndex())));
+
+                assertEquals(Collections.singletonList("1 41"), JdbcUtils.selectAll(createUpdateQuery(), connection,
+                        rs -> JdbcUtils.readIntegerNotNull(rs, 1) + " " + JdbcUtils.readIntegerNotNull(rs, 2)));
+
+                TableReference e = EMPLOYEE.refer();
+                DeleteQuery delete = new DeleteQuery(e);
+                delete.addCriteria(greater(e.get(EMPLOYEE_AGE), Literal.of(40)));
+                delete.addToReturning(e.get(EMPLOYEE_NAME));
+                assertEquals("Homer", JdbcUtils.selectOne(delete, connection, rs -> JdbcUtils.readString(rs, 1)));
+                return null;
+            });
+        });
+    }
+
+    private static UpdateQuery createUpdateQuery() {
+        TableReference e = EMPLOYEE.refer();
+        UpdateQuery update = new UpdateQuery(e);
+        update.addValue(EMPLOYEE_AGE, Parameter.of(41));
+        update.addCriteria(equal(e.get(EMPLOYEE_NAME), Parameter.of("Homer")));
+        update.addToReturning(e.get(EMPLOYEE_ID));
+        update.addToReturning(e.get(EMPLOYEE_AGE));
+        return update;
+    }
+}
@@ -17,6 +17,9 @@ package com.github.squigglesql.squigglesql;
 
 import com.github.squigglesql.squigglesql.exception.QueryCompilationException;
 import com.github.squigglesql.squigglesql.exception.UnsupportedDatabaseException;
+import com.github.squigglesql.squigglesql.literal.Literal;
+import com.github.squigglesql.squigglesql.query.SelectQuery;
+import com.github.squigglesql.squigglesql.syntax.AbstractSqlSyntax;
 import com.github.squigglesql.squigglesql.syntax.SqlSyntax;
 import org.junit.Test;
 
@@ -46,4 +49,76 @@ public class SyntaxTest {
     public void testQuotesInLexem() {
         new QueryCompiler(new Output(SqlSyntax.DEFAULT_SQL_SYNTAX)).quote("who's bad", '\'');
     }
+
+    @Test
+    public void testCustomSyntax() {
+        Table employee = new Table("employee");
+        TableReference e = employee.refer();
+        SelectQuery select = new SelectQuery();
+        select.addToSelection(e.get(employee.get("name")));
+        select.setLimit(Literal.of(10));
+        assertEquals("SELECT e.name FROM employee e LIMIT 10", select.toString(new CustomSyntax(), true));
+    }
+
+    @Test
+    public void testCompilerWithoutAliases() {
+        Output output = new Output(SqlSyntax.DEFAULT_SQL_SYNTAX);
+        new QueryCompiler(output, null).write("a");
+        new QueryCompiler(output, null, null).write("b");
+        assertEquals("ab", output.toString());
+    }
+
+    // Implements only the methods available before 4.3.0.
+    private static class CustomSyntax implements AbstractSqlSyntax {
+
+        @Override
+        public char getTableQuote() {
+            return 0;
+        }
+
+        @Override
+        public char getTableReferenceQuote() {
+            return 0;
+        }
+
+        @Override
+        public char getColumnQuote() {
+            return 0;
+        }
+
+        @Override
+        public char getResultColumnQuote() {
+            return 0;
+        }
+
+        @Override
+        public char getFunctionQuote() {
+            return 0;
+        }
+
+        @Override
+        public char getTextQuote() {
+            return '\'';
+        }
+
+        @Override
+        public void compileEmptyInsert(QueryCompiler compiler) {
+            compiler.write(" DEFAULT VALUES");
+        }
+
+        @Override
+        public void compileIsDistinctFrom(QueryCompiler compiler, Matchable left, Matchable right) {
+            compiler.write(left).write(" IS DISTINCT FROM ").write(right);
+        }
+
+        @Override
+        public void compileIsNotDistinctFrom(QueryCompiler compiler, Matchable left, Matchable right) {
+            compiler.write(left).write(" IS NOT DISTINCT FROM ").write(right);
+        }
+
+        @Override
+        public void compileDeleteFrom(QueryCompiler compiler, TableReference tableReference) {
+            compiler.write("DELETE FROM ").write(tableReference);
+        }
+    }
 }
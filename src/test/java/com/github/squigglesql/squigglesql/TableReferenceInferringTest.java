@@ -19,6 +19,7 @@ import com.github.squigglesql.squigglesql.join.QualifiedJoin;
 import com.github.squigglesql.squigglesql.join.QualifiedJoinKind;
 import com.github.squigglesql.squigglesql.literal.Literal;
 import com.github.squigglesql.squigglesql.query.SelectQuery;
+import com.github.squigglesql.squigglesql.syntax.SqlSyntax;
 import org.junit.Test;
 
 import static com.github.squigglesql.squigglesql.criteria.Criteria.equal;
@@ -68,4 +69,30 @@ public class TableReferenceInferringTest {
                 + "    v.color_id = c.id AND\n"
                 + "    c.name = 'blue'", select.toString());
     }
+
+    @Test
+    public void testInferringAfterModification() {
+        Table person = new Table("person");
+        TableColumn personName = person.get("name");
+        TableColumn personCountryId = person.get("country_id");
+
+        Table country = new Table("country");
+        TableColumn countryId = country.get("id");
+        TableColumn countryName = country.get("name");
+
+        TableReference p = person.refer();
+        TableReference c = country.refer();
+
+        SelectQuery select = new SelectQuery();
+        select.addToSelection(p.get(personName));
+
+        assertEquals("SELECT p.name FROM person p", select.toString(SqlSyntax.DEFAULT_SQL_SYNTAX, true));
+
+        // the query must forget the previously inferred tables and aliases
+        select.addCriteria(equal(p.get(personCountryId), c.get(countryId)));
+        select.addCriteria(equal(c.get(countryName), Literal.of("Spain")));
+
+        assertEquals("SELECT p.name FROM person p, country c WHERE p.country_id = c.id AND c.name = 'Spain'",
+                select.toString(SqlSyntax.DEFAULT_SQL_SYNTAX, true));
+    }
 }
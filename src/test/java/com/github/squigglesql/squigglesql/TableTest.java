@@ -15,8 +15,21 @@
  */
 package com.github.squigglesql.squigglesql;
 
+import com.github.squigglesql.squigglesql.exception.QueryCompilationException;
+import com.github.squigglesql.squigglesql.query.SelectQuery;
+import com.github.squigglesql.squigglesql.syntax.AbstractSqlSyntax;
+import com.github.squigglesql.squigglesql.syntax.SqlSyntax;
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertSame;
 
 public class TableTest {
@@ -35,6 +48,39 @@ public class TableTest {
         assertSame(e.get(employeeName), e.get(employeeName));
     }
 
+    @Test
+    public void testConcurrentColumnPersistence() throws Exception {
+        Table employee = new Table("employee");
+        TableReference e = employee.refer();
+        int threadCount = 8;
+        int columnCount = 1000;
+        CyclicBarrier barrier = new CyclicBarrier(threadCount);
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        try {
+            List<Future<List<TableColumnReference>>> futures = new ArrayList<>();
+            for (int i = 0; i < threadCount; ++i) {
+                futures.add(executor.submit(() -> {
+                    barrier.await();
+                    List<TableColumnReference> references = new ArrayList<>(columnCount);
+                    for (int j = 0; j < columnCount; ++j) {
+                        references.add(e.get(employee.get("column" + j)));
+                    }
+                    return references;
+                }));
+            }
+            List<TableColumnReference> expected = futures.get(0).get();
+            for (Future<List<TableColumnReference>> future : futures) {
+                List<TableColumnReference> actual = future.get();
+                for (int j = 0; j < columnCount; ++j) {
+                    assertSame(expected.get(j), actual.get(j));
+                    assertSame(employee.get("column" + j), actual.get(j).getColumn());
+                }
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
     @Test
     public void testColumnReferenceGetters() {
         Table employee = new Table("employee");
@@ -44,6 +90,44 @@ public class TableTest {
         assertSame(employeeName, e.get(employeeName).getColumn());
     }
 
+    @Test
+    public void testDeclaredColumns() {
+        Table employee = new Table("employee", "id", "name", "age");
+        assertEquals(3, employee.getColumns().size());
+        assertSame(employee.get("id"), employee.getColumns().get(0));
+        assertSame(employee.get("age"), employee.getColumns().get(2));
+        assertEquals(1, employee.get("name").getOrdinal());
+        assertEquals(-1, new Table("employee").get("name").getOrdinal());
+        assertEquals(Collections.emptyList(), new Table("employee").getColumns());
+    }
+
+    @Test
+    public void testDeclaredColumnQuotation() {
+        Table declared = new Table("employee", "name");
+        Table lazy = new Table("employee");
+        for (AbstractSqlSyntax syntax : new AbstractSqlSyntax[]{SqlSyntax.DEFAULT_SQL_SYNTAX,
+                SqlSyntax.MY_SQL_SYNTAX, SqlSyntax.POSTGRE_SQL_SYNTAX, SqlSyntax.H2_SQL_SYNTAX}) {
+            assertEquals(selectColumn(lazy, "name").toString(syntax),
+                    selectColumn(declared, "name").toString(syntax));
+        }
+    }
+
+    @Test(expected = QueryCompilationException.class)
+    public void testDeclaredColumnQuotationException() {
+        selectColumn(new Table("employee", "na\"me"), "na\"me").toString(SqlSyntax.POSTGRE_SQL_SYNTAX);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testUndeclaredColumnException() {
+        Table employee = new Table("employee", "id");
+        employee.get("name");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testDuplicateColumnException() {
+        new Table("employee", "id", "id");
+    }
+
     @Test(expected = IllegalArgumentException.class)
     public void testTableNullNameException() {
         new Table(null);
@@ -81,4 +165,11 @@ public class TableTest {
         TableReference d = department.refer();
         d.get(employeeName);
     }
+
+    private static SelectQuery selectColumn(Table table, String columnName) {
+        TableReference t = table.refer();
+        SelectQuery select = new SelectQuery();
+        select.addToSelection(t.get(table.get(columnName)));
+        return select;
+    }
 }
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2019-2020 Egor Nepomnyaschih and contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.squigglesql.squigglesql;
+
+import com.github.squigglesql.squigglesql.literal.Literal;
+import com.github.squigglesql.squigglesql.syntax.SqlSyntax;
+import org.junit.Test;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.OffsetTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalAccessor;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Checks that date/time literals are written exactly as {@link SquiggleConstants} formatters format them, for random
+ * and boundary values.
+ */
+public class TimeLiteralFormatTest {
+
+    private static final int ITERATIONS = 10000;
+
+    private static final LocalDate[] BOUNDARY_DATES = {
+            LocalDate.of(1, 1, 1), LocalDate.of(9, 12, 31), LocalDate.of(999, 6, 15), LocalDate.of(9999, 12, 31),
+            LocalDate.of(10000, 1, 1), LocalDate.of(0, 1, 1), LocalDate.of(-5, 3, 4), LocalDate.of(1970, 1, 1)
+    };
+
+    private static final ZoneOffset[] BOUNDARY_OFFSETS = {
+            ZoneOffset.UTC, ZoneOffset.ofHoursMinutes(-8, -30), ZoneOffset.ofHoursMinutes(0, -30),
+            ZoneOffset.ofHoursMinutes(5, 45), ZoneOffset.ofTotalSeconds(30), ZoneOffset.ofTotalSeconds(-3630),
+            ZoneOffset.MAX, ZoneOffset.MIN
+    };
+
+    @Test
+    public void testRandomValues() {
+        Random random = new Random(20201018);
+        for (int i = 0; i < ITERATIONS; ++i) {
+            LocalDate date = LocalDate.ofEpochDay(random.nextInt(2 * 3000000) - 3000000);
+            LocalTime time = LocalTime.ofNanoOfDay((long) (random.nextDouble() * LocalTime.MAX.toNanoOfDay()));
+            ZoneOffset offset = ZoneOffset.ofTotalSeconds(
+                    (random.nextInt(2 * 71 + 1) - 71) * 15 * 60 + (random.nextInt(8) == 0 ? 15 : 0));
+            checkAll(date, time, offset);
+        }
+    }
+
+    @Test
+    public void testBoundaryValues() {
+        LocalTime[] times = {LocalTime.MIDNIGHT, LocalTime.NOON, LocalTime.MAX, LocalTime.of(1, 2, 3, 999999)};
+        for (LocalDate date : BOUNDARY_DATES) {
+            for (LocalTime time : times) {
+                for (ZoneOffset offset : BOUNDARY_OFFSETS) {
+                    checkAll(date, time, offset);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testZonedValues() {
+        LocalDateTime dateTime = LocalDateTime.of(2020, 3, 8, 2, 30);
+        for (String zone : new String[]{"America/Vancouver", "Asia/Kathmandu", "Europe/Dublin", "UTC"}) {
+            ZonedDateTime value = ZonedDateTime.of(dateTime, ZoneId.of(zone));
+            check(SquiggleConstants.TIMESTAMP_WITH_TIME_ZONE_FORMATTER, value, Literal.of(value));
+        }
+    }
+
+    private static void checkAll(LocalDate date, LocalTime time, ZoneOffset offset) {
+        LocalDateTime dateTime = LocalDateTime.of(date, time);
+        OffsetDateTime offsetDateTime = OffsetDateTime.of(dateTime, offset);
+        OffsetTime offsetTime = OffsetTime.of(time, offset);
+        Instant instant = offsetDateTime.toInstant();
+
+        check(SquiggleConstants.DATE_FORMATTER, date, Literal.of(date));
+        check(SquiggleConstants.TIME_FORMATTER, time, Literal.of(time));
+        check(SquiggleConstants.TIMESTAMP_FORMATTER, dateTime, Literal.of(dateTime));
+        check(SquiggleConstants.TIMESTAMP_WITH_TIME_ZONE_FORMATTER, offsetDateTime, Literal.of(offsetDateTime));
+        check(SquiggleConstants.TIME_WITH_TIME_ZONE_FORMATTER, offsetTime, Literal.of(offsetTime));
+        check(SquiggleConstants.TIMESTAMP_WITH_TIME_ZONE_FORMATTER.withZone(ZoneOffset.UTC), instant,
+                Literal.of(instant));
+    }
+
+    private static void check(DateTimeFormatter formatter, TemporalAccessor value, Literal literal) {
+        Output output = new Output(SqlSyntax.DEFAULT_SQL_SYNTAX);
+        literal.compile(new QueryCompiler(output));
+        assertEquals(value.toString(), "'" + formatter.format(value) + "'", output.toString());
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright 2019-2020 Egor Nepomnyaschih and contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.squigglesql.squigglesql;
+
+import com.github.squigglesql.squigglesql.databases.TestDatabaseColumn;
+import com.github.squigglesql.squigglesql.parameter.Parameter;
+import com.github.squigglesql.squigglesql.query.BatchInsertQuery;
+import com.github.squigglesql.squigglesql.query.InsertQuery;
+import com.github.squigglesql.squigglesql.query.SelectQuery;
+import com.github.squigglesql.squigglesql.syntax.SqlSyntax;
+import com.github.squigglesql.squigglesql.util.JdbcUtils;
+import org.junit.Test;
+
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.Assert.assertEquals;
+
+public class UpsertTest {
+
+    private static final Table EMPLOYEE = new Table("employee");
+    private static final TableColumn EMPLOYEE_ID = EMPLOYEE.get("id");
+    private static final TableColumn EMPLOYEE_NAME = EMPLOYEE.get("name");
+    private static final TableColumn EMPLOYEE_AGE = EMPLOYEE.get("age");
+
+    @Test
+    public void testUpsert() {
+        InsertQuery query = createQuery(1, "Homer", 40);
+        query.setOnConflict(Collections.singletonList(EMPLOYEE_ID), Arrays.asList(EMPLOYEE_NAME, EMPLOYEE_AGE));
+
+        assertEquals("INSERT INTO \"employee\"(\"id\", \"name\", \"age\") VALUES (?, ?, ?) "
+                        + "ON CONFLICT(\"id\") DO UPDATE SET \"name\" = EXCLUDED.\"name\", \"age\" = EXCLUDED.\"age\"",
+                query.toString(SqlSyntax.POSTGRE_SQL_SYNTAX, true));
+        assertEquals("INSERT INTO `employee`(`id`, `name`, `age`) VALUES (?, ?, ?) "
+                        + "ON DUPLICATE KEY UPDATE `name` = VALUES(`name`), `age` = VALUES(`age`)",
+                query.toString(SqlSyntax.MY_SQL_SYNTAX, true));
+        assertEquals("MERGE INTO \"employee\" USING (VALUES (?, ?, ?)) \"excluded\" "
+                        + "ON \"employee\".\"id\" = \"excluded\".\"C1\" "
+                        + "WHEN MATCHED THEN UPDATE SET \"name\" = \"excluded\".\"C2\", \"age\" = \"excluded\".\"C3\" "
+                        + "WHEN NOT MATCHED THEN INSERT(\"id\", \"name\", \"age\") "
+                        + "VALUES (\"excluded\".\"C1\", \"excluded\".\"C2\", \"excluded\".\"C3\")",
+                query.toString(SqlSyntax.H2_SQL_SYNTAX, true));
+    }
+
+    @Test
+    public void testUpsertNothing() {
+        BatchInsertQuery query = new BatchInsertQuery(EMPLOYEE, EMPLOYEE_ID, EMPLOYEE_NAME);
+        query.addRow(Parameter.of(1), Parameter.of("Homer"));
+        query.addRow(Parameter.of(2), Parameter.of("Marge"));
+        query.setOnConflict(Collections.singletonList(EMPLOYEE_ID), Collections.emptyList());
+
+        assertEquals("INSERT INTO \"employee\"(\"id\", \"name\") VALUES (?, ?), (?, ?) ON CONFLICT(\"id\") DO NOTHING",
+                query.toString(SqlSyntax.POSTGRE_SQL_SYNTAX, true));
+        assertEquals("INSERT INTO `employee`(`id`, `name`) VALUES (?, ?), (?, ?) ON DUPLICATE KEY UPDATE `id` = `id`",
+                query.toString(SqlSyntax.MY_SQL_SYNTAX, true));
+        assertEquals("MERGE INTO employee USING (VALUES (?, ?), (?, ?)) excluded(id, name) "
+                        + "ON employee.id = excluded.id "
+                        + "WHEN NOT MATCHED THEN INSERT(id, name) VALUES (excluded.id, excluded.name)",
+                query.toString(SqlSyntax.DEFAULT_SQL_SYNTAX, true));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testEmptyKeyException() {
+        createQuery(1, "Homer", 40).setOnConflict(Collections.emptyList(), Collections.emptyList());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testNotInsertedKeyException() {
+        InsertQuery query = new InsertQuery(EMPLOYEE);
+        query.addValue(EMPLOYEE_NAME, Parameter.of("Homer"));
+        query.setOnConflict(Collections.singletonList(EMPLOYEE_ID), Collections.singletonList(EMPLOYEE_NAME));
+        query.toString();
+    }
+
+    @Test
+    public void testDatabaseUpsert() throws SQLException {
+        TestUtils.withDatabase((connection, database) -> {
+            TestUtils.withTable(connection, database, EMPLOYEE.getName(), new TestDatabaseColumn[]{
+                    new TestDatabaseColumn(EMPLOYEE_NAME.getName(), "TEXT", true, null),
+                    new TestDatabaseColumn(EMPLOYEE_AGE.getName(), "INTEGER", true, null)
+            }, () -> {
+                JdbcUtils.update(createQuery(1, "Homer", 40), connection);
+
+                BatchInsertQuery upsert = new BatchInsertQuery(EMPLOYEE, EMPLOYEE_ID, EMPLOYEE_NAME, EMPLOYEE_AGE);
+                upsert.addRow(Parameter.of(1), Parameter.of("Homer"), Parameter.of(41));
+                upsert.addRow(Parameter.of(2), Parameter.of("Marge"), Parameter.of(38));
+                upsert.setOnConflict(Collections.singletonList(EMPLOYEE_ID), Collections.singletonList(EMPLOYEE_AGE));
+                JdbcUtils.update(upsert, connection);
+
+                InsertQuery ignore = createQuery(2, "Maggie", 1);
+                ignore.setOnConflict(Collections.singletonList(EMPLOYEE_ID), Collections.emptyList());
+                JdbcUtils.update(ignore, connection);
+
+                TableReference e = EMPLOYEE.refer();
+                SelectQuery select = new SelectQuery();
+                select.addToSelection(e.get(EMPLOYEE_NAME));
+                select.addToSelection(e.get(EMPLOYEE_AGE));
+                select.addOrder(e.get(EMPLOYEE_ID), Order.ASCENDING);
+                assertEquals(Arrays.asList("Homer 41", "Marge 38"), JdbcUtils.selectAll(select, connection,
+                        rs -> JdbcUtils.readString(rs, 1) + " " + JdbcUtils.readIntegerNotNull(rs, 2)));
+                return null;
+            });
+        });
+    }
+
+    private static InsertQuery createQuery(int id, String name, int age) {
+        InsertQuery query = new InsertQuery(EMPLOYEE);
+        query.addValue(EMPLOYEE_ID, Parameter.of(id));
+        query.addValue(EMPLOYEE_NAME, Parameter.of(name));
+        query.addValue(EMPLOYEE_AGE, Parameter.of(age));
+        return query;
+    }
+}
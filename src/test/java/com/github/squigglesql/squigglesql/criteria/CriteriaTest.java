@@ -145,6 +145,28 @@ public class CriteriaTest {
                 + "    0 = 1", select.toString());
     }
 
+    @Test
+    public void testInPadded() {
+        Table user = new Table("user");
+        TableColumn userId = user.get("id");
+        TableColumn userRole = user.get("role");
+        TableColumn userTenant = user.get("tenant");
+        TableColumn userGroup = user.get("group");
+
+        TableReference u = user.refer();
+
+        SelectQuery select = new SelectQuery();
+
+        select.addToSelection(u.get(userId));
+
+        select.addCriteria(inPadded(u.get(userRole), Literal.of(1), Literal.of(2), Literal.of(3)));
+        select.addCriteria(inPadded(u.get(userTenant), Literal.of(1), Literal.of(2)));
+        select.addCriteria(inPadded(u.get(userGroup)));
+
+        assertEquals("SELECT u.id FROM user u WHERE u.role IN (1, 2, 3, 3) AND u.tenant IN (1, 2) AND 0 = 1",
+                select.toString(SqlSyntax.DEFAULT_SQL_SYNTAX, true));
+    }
+
     @Test
     public void testMysqlDistinction() {
         Table employee = new Table("employee");
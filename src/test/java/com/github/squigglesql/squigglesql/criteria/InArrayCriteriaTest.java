@@ -0,0 +1,130 @@
+/*
+ * Copyright 2019-2020 Egor Nepomnyaschih and contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.squigglesql.squigglesql.criteria;
+
+import com.github.squigglesql.squigglesql.Order;
+import com.github.squigglesql.squigglesql.Table;
+import com.github.squigglesql.squigglesql.TableColumn;
+import com.github.squigglesql.squigglesql.TableReference;
+import com.github.squigglesql.squigglesql.TestUtils;
+import com.github.squigglesql.squigglesql.databases.TestDatabaseColumn;
+import com.github.squigglesql.squigglesql.mock.MockStatement;
+import com.github.squigglesql.squigglesql.mock.MockStatementCompiler;
+import com.github.squigglesql.squigglesql.parameter.Parameter;
+import com.github.squigglesql.squigglesql.query.InsertQuery;
+import com.github.squigglesql.squigglesql.query.SelectQuery;
+import com.github.squigglesql.squigglesql.syntax.SqlSyntax;
+import com.github.squigglesql.squigglesql.util.JdbcUtils;
+import org.junit.Test;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import static com.github.squigglesql.squigglesql.criteria.Criteria.inArray;
+import static org.junit.Assert.assertEquals;
+
+public class InArrayCriteriaTest {
+
+    private static final Table EMPLOYEE = new Table("employee");
+    private static final TableColumn EMPLOYEE_ID = EMPLOYEE.get("id");
+    private static final TableColumn EMPLOYEE_NAME = EMPLOYEE.get("name");
+
+    @Test
+    public void testArray() throws SQLException {
+        MockStatement statement = createQuery(Arrays.asList(1, 2, 3))
+                .toStatement(SqlSyntax.POSTGRE_SQL_SYNTAX, new MockStatementCompiler(), true);
+        assertEquals("SELECT \"e\".\"name\" FROM \"employee\" \"e\" WHERE \"e\".\"id\" = ANY(?) ORDER BY \"e\".\"id\"",
+                statement.getQuery());
+        assertEquals(Collections.singletonList(Arrays.asList(1, 2, 3)), statement.getParameters());
+    }
+
+    @Test
+    public void testH2Array() throws SQLException {
+        MockStatement statement = createQuery(Arrays.asList(1, 2, 3))
+                .toStatement(SqlSyntax.H2_SQL_SYNTAX, new MockStatementCompiler(), true);
+        assertEquals("SELECT \"e\".\"name\" FROM \"employee\" \"e\" WHERE \"e\".\"id\" = ANY(?) ORDER BY \"e\".\"id\"",
+                statement.getQuery());
+        assertEquals(Collections.singletonList(Arrays.asList(1, 2, 3)), statement.getParameters());
+    }
+
+    @Test
+    public void testInList() throws SQLException {
+        MockStatement statement = createQuery(Arrays.asList(1, 2, 3))
+                .toStatement(SqlSyntax.DEFAULT_SQL_SYNTAX, new MockStatementCompiler(), true);
+        assertEquals("SELECT e.name FROM employee e WHERE e.id IN (?, ?, ?) ORDER BY e.id", statement.getQuery());
+        assertEquals(Arrays.asList(1, 2, 3), statement.getParameters());
+    }
+
+    @Test
+    public void testChunkedInList() throws SQLException {
+        List<Integer> ids = new ArrayList<>();
+        for (int i = 0; i < 2500; ++i) {
+            ids.add(i);
+        }
+        MockStatement statement = createQuery(ids)
+                .toStatement(SqlSyntax.MY_SQL_SYNTAX, new MockStatementCompiler(), true);
+        String query = statement.getQuery();
+        assertEquals(2, query.split(" OR ").length - 1);
+        assertEquals(3, query.split(" IN \\(").length - 1);
+        assertEquals(ids, statement.getParameters());
+    }
+
+    @Test
+    public void testEmptyInList() {
+        assertEquals("SELECT e.name FROM employee e WHERE 0 = 1 ORDER BY e.id",
+                createQuery(Collections.emptyList()).toString(SqlSyntax.DEFAULT_SQL_SYNTAX, true));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNullElementsException() {
+        inArray(EMPLOYEE.refer().get(EMPLOYEE_ID), "integer", null);
+    }
+
+    @Test
+    public void testSelect() throws SQLException {
+        TestUtils.withDatabase((connection, database) -> {
+            TestUtils.withTable(connection, database, EMPLOYEE.getName(), new TestDatabaseColumn[]{
+                    new TestDatabaseColumn(EMPLOYEE_NAME.getName(), "TEXT", true, null)
+            }, () -> {
+                for (String name : new String[]{"Aaron", "Bob", "Chris", "Dan"}) {
+                    InsertQuery insert = new InsertQuery(EMPLOYEE);
+                    insert.addValue(EMPLOYEE_NAME, Parameter.of(name));
+                    JdbcUtils.insert(insert, connection, rs -> rs.getInt(1));
+                }
+
+                assertEquals(Arrays.asList("Aaron", "Chris", "Dan"), JdbcUtils.selectAll(
+                        createQuery(Arrays.asList(1, 3, 4, 5)), connection, rs -> JdbcUtils.readString(rs, 1)));
+                assertEquals(Collections.emptyList(), JdbcUtils.selectAll(
+                        createQuery(Collections.emptyList()), connection, rs -> JdbcUtils.readString(rs, 1)));
+                return null;
+            });
+        });
+    }
+
+    private static SelectQuery createQuery(Collection<?> ids) {
+        TableReference e = EMPLOYEE.refer();
+
+        SelectQuery select = new SelectQuery();
+        select.addToSelection(e.get(EMPLOYEE_NAME));
+        select.addCriteria(inArray(e.get(EMPLOYEE_ID), "integer", ids));
+        select.addOrder(e.get(EMPLOYEE_ID), Order.ASCENDING);
+        return select;
+    }
+}
@@ -20,6 +20,7 @@ import com.github.squigglesql.squigglesql.TableColumn;
 import com.github.squigglesql.squigglesql.TableReference;
 import com.github.squigglesql.squigglesql.literal.Literal;
 import com.github.squigglesql.squigglesql.query.SelectQuery;
+import com.github.squigglesql.squigglesql.syntax.SqlSyntax;
 import org.junit.Test;
 
 import static com.github.squigglesql.squigglesql.criteria.Criteria.greater;
@@ -48,4 +49,16 @@ public class NastyStringsTest {
                 + "WHERE\n"
                 + "    e.foo > 'I''ve got a quote'", select.toString());
     }
+
+    @Test
+    public void testQuoteEscaping() {
+        SelectQuery select = new SelectQuery();
+
+        select.addToSelection(Literal.of("'"));
+        select.addToSelection(Literal.of("''a'b'"));
+        select.addToSelection(Literal.of(""));
+        select.addToSelection(Literal.of(new StringBuilder("it's")));
+
+        assertEquals("SELECT '''', '''''a''b''', '', 'it''s'", select.toString(SqlSyntax.DEFAULT_SQL_SYNTAX, true));
+    }
 }
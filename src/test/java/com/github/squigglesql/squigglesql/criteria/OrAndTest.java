@@ -131,6 +131,33 @@ public class OrAndTest {
                 + "    )", select.toString());
     }
 
+    @Test
+    public void testCollectionCopied() {
+        Table user = new Table("user");
+        TableColumn userId = user.get("id");
+        TableColumn userRole = user.get("role");
+        TableColumn userEnabled = user.get("enabled");
+
+        TableReference u = user.refer();
+
+        SelectQuery select = new SelectQuery();
+
+        select.addToSelection(u.get(userId));
+
+        List<Criteria> criterias = new ArrayList<>();
+        criterias.add(equal(u.get(userRole), Literal.of("ADMIN")));
+
+        select.addCriteria(and(criterias));
+        criterias.add(equal(u.get(userEnabled), Literal.of(true)));
+
+        assertEquals("SELECT\n"
+                + "    u.id\n"
+                + "FROM\n"
+                + "    user u\n"
+                + "WHERE\n"
+                + "    (u.role = 'ADMIN')", select.toString());
+    }
+
     @Test
     public void testEmpty() {
         Table user = new Table("user");
@@ -24,6 +24,7 @@ import java.sql.SQLException;
 import java.sql.Time;
 import java.sql.Timestamp;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Calendar;
 import java.util.List;
 
@@ -31,16 +32,26 @@ import java.util.List;
 public class MockStatement implements StatementBuilder<MockStatement> {
 
     private final String query;
+    private final String[] keyColumnNames;
     private final List<Object> parameters = new ArrayList<>();
 
     MockStatement(String query) {
+        this(query, null);
+    }
+
+    MockStatement(String query, String[] keyColumnNames) {
         this.query = query;
+        this.keyColumnNames = keyColumnNames;
     }
 
     public String getQuery() {
         return query;
     }
 
+    public String[] getKeyColumnNames() {
+        return keyColumnNames;
+    }
+
     public List<Object> getParameters() {
         return parameters;
     }
@@ -55,6 +66,11 @@ public class MockStatement implements StatementBuilder<MockStatement> {
         parameters.add(new MockNull(sqlType));
     }
 
+    @Override
+    public void addObject(Object value) throws SQLException {
+        parameters.add(value);
+    }
+
     @Override
     public void addBoolean(boolean value) throws SQLException {
         parameters.add(value);
@@ -120,6 +136,11 @@ public class MockStatement implements StatementBuilder<MockStatement> {
         parameters.add(value);
     }
 
+    @Override
+    public void addArray(String elementType, Object[] elements) throws SQLException {
+        parameters.add(Arrays.asList(elements));
+    }
+
     @Override
     public void addBytes(byte[] value) throws SQLException {
         parameters.add(value);
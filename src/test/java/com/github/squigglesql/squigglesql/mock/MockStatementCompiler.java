@@ -36,4 +36,9 @@ public class MockStatementCompiler implements StatementCompiler<MockStatement> {
     public StatementBuilder<MockStatement> createInsertStatementBuilder(String query) {
         return new MockStatement(query);
     }
+
+    @Override
+    public StatementBuilder<MockStatement> createInsertStatementBuilder(String query, String[] keyColumnNames) {
+        return new MockStatement(query, keyColumnNames);
+    }
 }
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2019-2020 Egor Nepomnyaschih and contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.squigglesql.squigglesql.query;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class IdentityArraySetTest {
+
+    @Test
+    public void testIdentity() {
+        String a = new String("a");
+        String b = new String("a");
+
+        IdentityArraySet<String> set = new IdentityArraySet<>();
+        assertTrue(set.add(a));
+        assertTrue(set.add(b));
+        assertFalse(set.add(a));
+        assertEquals(2, set.size());
+    }
+
+    @Test
+    public void testOrder() {
+        List<Object> elements = new ArrayList<>();
+        for (int i = 0; i < 100; ++i) {
+            elements.add(new Object());
+        }
+
+        IdentityArraySet<Object> set = new IdentityArraySet<>();
+        set.addAll(elements);
+        set.addAll(elements);
+        assertEquals(elements, new ArrayList<>(set));
+        for (Object element : elements) {
+            assertTrue(set.contains(element));
+        }
+        assertFalse(set.contains(new Object()));
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright 2019-2020 Egor Nepomnyaschih and contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.squigglesql.squigglesql.util;
+
+import com.github.squigglesql.squigglesql.Order;
+import com.github.squigglesql.squigglesql.Table;
+import com.github.squigglesql.squigglesql.TableColumn;
+import com.github.squigglesql.squigglesql.TableReference;
+import com.github.squigglesql.squigglesql.databases.TestDatabaseColumn;
+import com.github.squigglesql.squigglesql.parameter.Parameter;
+import com.github.squigglesql.squigglesql.query.SelectQuery;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.Iterator;
+import java.util.List;
+import java.util.TimeZone;
+
+import static com.github.squigglesql.squigglesql.TestUtils.withDatabase;
+import static com.github.squigglesql.squigglesql.TestUtils.withTable;
+import static org.junit.Assert.assertEquals;
+
+public class BulkLoadTest {
+
+    private static final Table TABLE = new Table("employee");
+    private static final TableColumn ID = TABLE.get("id");
+    private static final TableColumn NAME = TABLE.get("name");
+    private static final TableColumn AGE = TABLE.get("age");
+
+    private static final int ROW_COUNT = 2500;
+
+    @Test
+    public void testEncodePostgreSql() throws SQLException {
+        assertEquals("1\tt\t\\N\ttab\\there\\\\\t12.50\t\\\\x00ff\t{\"a\\\\\"b\",NULL}\n",
+                encode(true, Parameter.of(1), Parameter.of(true), Parameter.ofNull(Types.VARCHAR),
+                        Parameter.of("tab\there\\"), Parameter.of(new BigDecimal("12.50")),
+                        Parameter.of(new byte[]{0, -1}), Parameter.ofArray("text", new Object[]{"a\"b", null})));
+    }
+
+    @Test
+    public void testEncodeMySql() throws SQLException {
+        assertEquals("1\t0\t\\N\tline\\nbreak\\r\t1000\n",
+                encode(false, Parameter.of(1L), Parameter.of(false), Parameter.of((String) null),
+                        Parameter.of("line\nbreak\r"), Parameter.of(new BigDecimal("1E+3"))));
+    }
+
+    @Test
+    public void testEncodeMySqlNul() throws SQLException {
+        assertEquals("a\\0b\n", encode(false, Parameter.of("a\0b")));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testPostgreSqlNul() throws SQLException {
+        encode(true, Parameter.of("a\0b"));
+    }
+
+    @Test
+    public void testEncodeTime() throws SQLException {
+        Calendar utc = Calendar.getInstance(TimeZone.getTimeZone("UTC"));
+        OffsetDateTime time = OffsetDateTime.of(2020, 2, 3, 4, 5, 6, 7000, ZoneOffset.UTC);
+        Timestamp timestamp = Timestamp.from(time.toInstant());
+        assertEquals("2020-02-03 04:05:06.000007+00:00\t2020-02-03\n", encode(true,
+                Parameter.of(timestamp, utc), Parameter.of(Date.valueOf(LocalDate.of(2020, 2, 3)))));
+        assertEquals("2020-02-03 04:05:06.000007\n", encode(false, Parameter.of(timestamp, utc)));
+    }
+
+    @Test(expected = SQLFeatureNotSupportedException.class)
+    public void testMySqlBytes() throws SQLException {
+        encode(false, Parameter.of(new byte[]{1}));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testRowSize() throws SQLException {
+        new BulkLoadEncoder(new StringBuilder(), true).writeRow(new Parameter[]{Parameter.of(1)}, 2);
+    }
+
+    @Test
+    public void testBulkLoad() throws SQLException {
+        withDatabase((connection, database) -> withTable(
+                connection, database, TABLE.getName(), new TestDatabaseColumn[]{
+                        new TestDatabaseColumn(NAME.getName(), "TEXT", true, null),
+                        new TestDatabaseColumn(AGE.getName(), "INTEGER", false, null)
+                },
+                () -> {
+                    Iterable<Parameter[]> rows = () -> new Iterator<Parameter[]>() {
+
+                        private int index = 0;
+
+                        @Override
+                        public boolean hasNext() {
+                            return index < ROW_COUNT;
+                        }
+
+                        @Override
+                        public Parameter[] next() {
+                            int i = index++;
+                            return new Parameter[]{
+                                    Parameter.of("Employee\t" + i + "\\\n'"),
+                                    i % 2 == 0 ? Parameter.of(i) : Parameter.ofNull(Types.INTEGER)
+                            };
+                        }
+                    };
+                    assertEquals(ROW_COUNT, JdbcUtils.bulkLoad(TABLE, Arrays.asList(NAME, AGE), connection, 1000,
+                            rows));
+
+                    TableReference e = TABLE.refer();
+                    SelectQuery select = new SelectQuery();
+                    select.addToSelection(e.get(NAME));
+                    select.addToSelection(e.get(AGE));
+                    select.addOrder(e.get(ID), Order.ASCENDING);
+                    List<String> result = JdbcUtils.selectAll(select, connection,
+                            rs -> JdbcUtils.readString(rs, 1) + "/" + JdbcUtils.readIntegerNull(rs, 2));
+                    assertEquals(ROW_COUNT, result.size());
+                    assertEquals("Employee\t0\\\n'/0", result.get(0));
+                    assertEquals("Employee\t2499\\\n'/null", result.get(ROW_COUNT - 1));
+                    return null;
+                }));
+    }
+
+    private static String encode(boolean postgreSql, Parameter... row) throws SQLException {
+        StringBuilder builder = new StringBuilder();
+        new BulkLoadEncoder(builder, postgreSql).writeRow(row, row.length);
+        return builder.toString();
+    }
+}